@@ -32,4 +32,17 @@ import it.unicam.cs.mpmgc.formula1.api.simulation.Simulation;
  */
 public interface Configurator {
     Simulation configure(int secondPerStepInSimulation);
+
+    /**
+     * Configures the Simulation with the random decisions of every entity
+     * depending only on the seed passed as parameter, so it can be replayed.
+     * The configurators that can't seed their entities ignore the seed and
+     * configure the Simulation like {@link #configure(int)}.
+     * @param secondPerStepInSimulation the seconds of every step.
+     * @param seed the seed of the random decisions.
+     * @return the Simulation.
+     */
+    default Simulation configure(int secondPerStepInSimulation, long seed) {
+        return configure(secondPerStepInSimulation);
+    }
 }
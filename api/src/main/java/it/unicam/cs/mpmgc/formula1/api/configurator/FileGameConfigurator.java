@@ -37,6 +37,7 @@ import it.unicam.cs.mpmgc.formula1.api.ui.ConsoleUserInterface;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Configures a {@link it.unicam.cs.mpmgc.formula1.api.simulation.Simulation
@@ -52,11 +53,20 @@ public class FileGameConfigurator implements Configurator{
 
     @Override
     public Simulation configure(int secondPerStepInSimulation) {
+        return configure(secondPerStepInSimulation, new SplittableRandom());
+    }
+
+    @Override
+    public Simulation configure(int secondPerStepInSimulation, long seed) {
+        return configure(secondPerStepInSimulation, new SplittableRandom(seed));
+    }
+
+    private Simulation configure(int secondPerStepInSimulation, SplittableRandom random) {
         try {
             TileTrackHandler trackHandler = new TileTrackHandler(gameFile);
             Track<?> track = trackHandler.handle();
 
-            CarEntityHandler entityHandler = new CarEntityHandler(gameFile);
+            CarEntityHandler entityHandler = new CarEntityHandler(gameFile, random);
             List<Entity> entities = entityHandler.handle();
             ConsoleUserInterface UI = new ConsoleUserInterface();
 
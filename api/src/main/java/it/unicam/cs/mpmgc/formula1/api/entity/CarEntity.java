@@ -48,8 +48,41 @@ public class CarEntity extends GameEntity{
         Vector2 decidedMove = strategy.decideNextMove(getPossibleMoves(getAcceleration()),this,
                 sim );
 
-        setPosition(getPosition().sum(decidedMove));
-        setAcceleration(decidedMove);
+        move(decidedMove);
+    }
+
+    /**
+     * Returns the Strategy the car moves according to.
+     * @return the Strategy of the car.
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Moves the car with a move decided outside of {@link #nextMove}, for
+     * example by a {@link it.unicam.cs.mpmgc.formula1.api.strategy.BatchStrategy
+     * BatchStrategy} deciding for many cars at once.
+     * @param move One of the possible moves of the car.
+     * @throws NullPointerException if the move is null.
+     * @throws IllegalArgumentException if the move isn't possible.
+     */
+    public void applyMove(Vector2 move) {
+        if (move == null) throw new NullPointerException("Move is null");
+        if (!Arrays.asList(getPossibleMoves(getAcceleration())).contains(move))
+            throw new IllegalArgumentException("The move is not possible");
+        move(move);
+    }
+
+    private void move(Vector2 move) {
+        setPosition(getPosition().sum(move));
+        setAcceleration(move);
+    }
+
+    @Override
+    public void prepare(SimulationInfo sim) {
+        if (sim == null) throw new NullPointerException("Simulation is null");
+        strategy.prepare(this, sim);
     }
 
     public static Vector2[] getPossibleMoves(Vector2 acceleration) {
@@ -79,6 +79,15 @@ public interface Entity {
      */
     void nextMove(SimulationInfo sim);
 
+    /**
+     * Lets the Entity get ready before it has to move, given the current
+     * state of the Simulation. By default it does nothing.
+     *
+     * @param sim  The simulation.
+     */
+    default void prepare(SimulationInfo sim) {
+    }
+
     /**
      * Return true if the Entity is alive, false otherwise.
      * @return true if the Entity is alive, false otherwise.
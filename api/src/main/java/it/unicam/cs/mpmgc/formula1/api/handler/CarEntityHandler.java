@@ -26,6 +26,8 @@ package it.unicam.cs.mpmgc.formula1.api.handler;
 
 import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
 import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.strategy.BatchStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.Strategy;
 import it.unicam.cs.mpmgc.formula1.api.strategy.StrategyFactory;
 import it.unicam.cs.mpmgc.formula1.api.strategy.StrategyString;
 import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
@@ -39,8 +41,26 @@ import java.util.*;
  * of the game simulation.
  */
 public class CarEntityHandler extends ScannerFileHandler<List<Entity>> {
+    private final SplittableRandom random;
+    private final Map<StrategyString, Strategy> batchStrategies = new EnumMap<>(StrategyString.class);
+
     public CarEntityHandler(File file) throws FileNotFoundException {
+        this(file, new SplittableRandom());
+    }
+
+    /**
+     * Creates the handler giving every car a generator split from the one
+     * passed as parameter, so the same seed always loads cars making the
+     * same random decisions.
+     * @param file the file to load.
+     * @param random the generator the ones of the cars are split from.
+     * @throws FileNotFoundException if the file doesn't exist.
+     * @throws NullPointerException if the generator is null.
+     */
+    public CarEntityHandler(File file, SplittableRandom random) throws FileNotFoundException {
         super(file);
+        if(random == null) throw new NullPointerException("Random is null");
+        this.random = random;
     }
 
     @Override
@@ -72,7 +92,15 @@ public class CarEntityHandler extends ScannerFileHandler<List<Entity>> {
         return new CarEntity(
           new Vector2(0,0),
           name,
-          StrategyFactory.buildStrategy(strat)
+          createStrategy(strat)
         );
     }
+
+    // The cars with the same BatchStrategy share it, so it decides for all of them at once.
+    private Strategy createStrategy(StrategyString strat){
+        if(strat != null && batchStrategies.containsKey(strat)) return batchStrategies.get(strat);
+        Strategy strategy = StrategyFactory.buildStrategy(strat, random.split());
+        if(strat != null && strategy instanceof BatchStrategy) batchStrategies.put(strat, strategy);
+        return strategy;
+    }
 }
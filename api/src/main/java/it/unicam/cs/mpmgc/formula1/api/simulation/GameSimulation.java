@@ -24,13 +24,24 @@
 
 package it.unicam.cs.mpmgc.formula1.api.simulation;
 
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
 import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.strategy.BatchStrategy;
 import it.unicam.cs.mpmgc.formula1.api.track.Track;
 import it.unicam.cs.mpmgc.formula1.api.ui.UserInterface;
 import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
 
 /**
  * Implementation of a Simulation.
@@ -65,21 +76,105 @@ public class GameSimulation implements Simulation{
         track.putEntitiesOnStart(entities);
     }
 
+    /**
+     * Prepares every entity before the race starts, on the number of threads
+     * passed as parameter. The entities are prepared at the same time, so the
+     * first step waits for the slowest of them instead of all of them.
+     * @param threads the number of threads preparing the entities.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalArgumentException if the number of threads is lower than 1.
+     */
+    public void warmUp(int threads) throws InterruptedException {
+        warmUp(threads, (entity, ready) -> { });
+    }
+
+    /**
+     * Prepares every entity before the race starts, on the number of threads
+     * passed as parameter. The entities are prepared at the same time, so the
+     * first step waits for the slowest of them instead of all of them. Every
+     * time an entity is ready, the listener gets it along with the number of
+     * entities ready so far; it's called by one thread at a time.
+     * @param threads the number of threads preparing the entities.
+     * @param progress the listener of the progress.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws NullPointerException if the listener is null.
+     * @throws IllegalArgumentException if the number of threads is lower than 1.
+     */
+    public void warmUp(int threads, ObjIntConsumer<Entity> progress) throws InterruptedException {
+        if(progress == null) throw new NullPointerException("Progress is null");
+        if(threads < 1) throw new IllegalArgumentException("The number of " +
+                "threads must be at least 1");
+        if(entityList.isEmpty()) return;
+
+        SimulationInfo info = new SimulationInfo(track, entityList, UI);
+        AtomicInteger ready = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, entityList.size()));
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (Entity entity : entityList) {
+                tasks.add(executor.submit(() -> {
+                    entity.prepare(info);
+                    synchronized (progress) {
+                        progress.accept(entity, ready.incrementAndGet());
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) waitFor(task);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void waitFor(Future<?> task) throws InterruptedException {
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException cause) throw cause;
+            if(e.getCause() instanceof Error cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     @Override
     public void start() throws InterruptedException {
         while(isOngoing){
+            Map<Entity, Vector2> batchedMoves = decideBatchedMoves();
             for (Entity entity: entityList) {
                 if(!isOngoing) break;
                 updateUIandStep();
-                handleEntity(entity);
+                handleEntity(entity, batchedMoves.get(entity));
             }
         }
     }
 
-    private void handleEntity(Entity entity) {
+    /*
+     * Asks every BatchStrategy followed by more than one car for the moves of
+     * all its cars at once, at the start of the round. The other cars decide
+     * their move on their turn.
+     */
+    private Map<Entity, Vector2> decideBatchedMoves() {
+        Map<BatchStrategy, List<CarEntity>> batches = new IdentityHashMap<>();
+        for (Entity entity : aliveEntities) {
+            if(entity instanceof CarEntity car && car.getStrategy() instanceof BatchStrategy strategy)
+                batches.computeIfAbsent(strategy, s -> new ArrayList<>()).add(car);
+        }
+
+        Map<Entity, Vector2> moves = new HashMap<>();
+        SimulationInfo info = new SimulationInfo(track, entityList, UI);
+        for (Map.Entry<BatchStrategy, List<CarEntity>> batch : batches.entrySet()) {
+            List<CarEntity> cars = batch.getValue();
+            if(cars.size() < 2) continue;
+            Vector2[] decided = batch.getKey().decideNextMoves(cars, info);
+            for (int i = 0; i < cars.size(); i++) moves.put(cars.get(i), decided[i]);
+        }
+        return moves;
+    }
+
+    private void handleEntity(Entity entity, Vector2 batchedMove) {
         if(!entity.isAlive()) return;
         Vector2 before = entity.getPosition();
-        entity.nextMove(new SimulationInfo(track, entityList, UI));
+        if(batchedMove != null) ((CarEntity) entity).applyMove(batchedMove);
+        else entity.nextMove(new SimulationInfo(track, entityList, UI));
 
         if(track.hasEntityCrashed(before, entity.getPosition())) handleEntityCrash(entity);
         else if(track.isEntityOnFinishLine(entity) || aliveEntities.size() == 1) handlerEntityWin(entity);
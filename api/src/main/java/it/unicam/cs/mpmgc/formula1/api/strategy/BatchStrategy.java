@@ -0,0 +1,52 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.List;
+
+/**
+ * A BatchStrategy is a {@link Strategy} that can decide the moves of every
+ * {@link it.unicam.cs.mpmgc.formula1.api.entity.CarEntity CarEntity} following
+ * it at once, so that the work they share is done only once. The
+ * {@link it.unicam.cs.mpmgc.formula1.api.simulation.GameSimulation
+ * GameSimulation} asks for the moves of all of them at the start of every
+ * round, when it finds the same instance followed by many entities.
+ */
+public interface BatchStrategy extends Strategy {
+    /**
+     * Given the entities that apply the strategy and the rest of the
+     * simulation, this method will return the move of every entity, in the
+     * same order. Every move is one of the
+     * {@link it.unicam.cs.mpmgc.formula1.api.entity.CarEntity#getPossibleMoves
+     * possible moves} of its entity.
+     * @param entities The entities following the strategy.
+     * @param sim The simulation.
+     * @return The move of every entity.
+     */
+    Vector2[] decideNextMoves(List<? extends Entity> entities, SimulationInfo sim);
+}
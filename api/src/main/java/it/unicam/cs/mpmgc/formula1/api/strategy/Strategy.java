@@ -46,4 +46,15 @@ public interface Strategy {
      */
     Vector2 decideNextMove(Vector2[] possiblePositions, Entity thisEntity,
                            SimulationInfo sim);
+
+    /**
+     * Lets the strategy do its work in advance, before the entity following
+     * it has to move, for example planning its moves before the race starts.
+     * The strategies of different entities can be prepared at the same time
+     * on different threads. By default it does nothing.
+     * @param thisEntity The entity following the strategy.
+     * @param sim The simulation.
+     */
+    default void prepare(Entity thisEntity, SimulationInfo sim) {
+    }
 }
@@ -26,6 +26,9 @@ package it.unicam.cs.mpmgc.formula1.api.strategy;
 
 import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.*;
 
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Factory for Strategies.
  */
@@ -39,11 +42,33 @@ public final class StrategyFactory {
      * {@link StoppedStrategy} if null.
      */
     public static Strategy buildStrategy(StrategyString strat){
+        return buildStrategy(strat, new SplittableRandom());
+    }
+
+    /**
+     * Given a {@link StrategyString} it gives out the related
+     * {@link Strategy} class, drawing the random decisions, if any, from the
+     * generator passed as parameter. If null is passed for the strategy, the
+     * {@link StoppedStrategy} is returned.
+     * @param strat The {@link StrategyString} enum
+     * @param random The generator of the random decisions.
+     * @return The related {@link Strategy} class. Precisely a
+     * {@link StoppedStrategy} if null.
+     * @throws NullPointerException if the generator is null.
+     */
+    public static Strategy buildStrategy(StrategyString strat, RandomGenerator random){
+        if(random == null) throw new NullPointerException("Random is null");
         return switch (strat){
             case STOPPED_STRATEGY-> new StoppedStrategy();
-            case RANDOM_STRATEGY -> new RandomStrategy();
+            case RANDOM_STRATEGY -> new RandomStrategy(random);
             case BFS_STRATEGY   -> new BFSStrategy();
             case DFS_STRATEGY   -> new DFSStrategy();
+            case ASTAR_STRATEGY -> new AStarStrategy();
+            case BIDIRECTIONAL_STRATEGY -> new BidirectionalStrategy();
+            case PARALLEL_BFS_STRATEGY -> new ParallelBFSStrategy();
+            case DSTAR_LITE_STRATEGY -> new DStarLiteStrategy();
+            case COOPERATIVE_STRATEGY -> new CooperativeStrategy();
+            case MONTE_CARLO_STRATEGY -> new MonteCarloStrategy(random);
             case PLAYER_STRATEGY -> new PlayerStrategy();
             case null -> new BFSStrategy();
         };
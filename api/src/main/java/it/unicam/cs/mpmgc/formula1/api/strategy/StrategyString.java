@@ -32,7 +32,13 @@ public enum StrategyString {
     RANDOM_STRATEGY("random-bot"),
     PLAYER_STRATEGY("player"),
     BFS_STRATEGY("bfs-bot"),
-    DFS_STRATEGY("dfs-bot");
+    DFS_STRATEGY("dfs-bot"),
+    ASTAR_STRATEGY("astar-bot"),
+    BIDIRECTIONAL_STRATEGY("bidir-bot"),
+    PARALLEL_BFS_STRATEGY("pbfs-bot"),
+    DSTAR_LITE_STRATEGY("dstar-bot"),
+    COOPERATIVE_STRATEGY("coop-bot"),
+    MONTE_CARLO_STRATEGY("mcts-bot");
 
     private final String strategy;
 
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * An A* Strategy is a {@link GraphBasedStrategy} that traverses the graph with
+ * the A* algorithm. States are expanded in order of moves done plus a lower
+ * bound of the moves still needed to reach victory, so it finds the victory
+ * reachable with the fewest moves like a BFS, but expanding far less states.
+ * <p>
+ * The lower bound comes from the {@link DistanceField} of the track, so states
+ * that can't reach any victory are never expanded.
+ */
+public class AStarStrategy extends GraphBasedStrategy {
+    public AStarStrategy() {
+        super();
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public AStarStrategy(int maxStates) {
+        super(maxStates);
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter, planning every move for no longer than
+     * the budget passed as parameter. When the budget runs out, the car moves
+     * towards the state closest to the finish found so far.
+     * @param maxStates the maximum number of states of the graph.
+     * @param budget the longest time spent planning a move, zero for no limit.
+     * @throws NullPointerException if the budget is null.
+     * @throws IllegalArgumentException if the number is lower than 1, or the
+     * budget is negative.
+     */
+    public AStarStrategy(int maxStates, Duration budget) {
+        super(maxStates, budget);
+    }
+
+    @Override
+    protected Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories) {
+        GoalSet goals = new GoalSet(victories);
+        if (goals.isEmpty()) return null;
+        int startIndex = graph.getNodeIndexOf(start);
+        Search search = new Search(graph, DistanceField.of(track));
+
+        search.costs[startIndex] = 0;
+        search.parents[startIndex] = startIndex;
+        search.push(startIndex, 0);
+        while (!search.open.isEmpty()) {
+            int v = search.open.poll();
+            CarState state = graph.getNodeAtIndex(v).getLabel();
+            if (goals.contains(state))
+                return findPath(graph, search.parents, startIndex, v);
+            expanded(v, state);
+            if (isOutOfTime())
+                return partialPath(graph, search.parents, startIndex);
+            search.current = v;
+            graph.forEachSuccessor(v, search);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the lowest number of moves needed to cover the distance passed
+     * as parameter, starting at the speed passed as parameter. The speed can
+     * grow by one at every move, so in t moves at most
+     * {@code speed*t + t(t+1)/2} cells can be covered.
+     * @param distance the distance to cover.
+     * @param speed the speed at the start.
+     * @return the lowest number of moves needed to cover the distance.
+     */
+    static int movesLowerBound(int distance, int speed) {
+        if (distance <= 0) return 0;
+        double b = 2.0 * speed + 1;
+        int moves = (int) Math.ceil((-b + Math.sqrt(b * b + 8.0 * distance)) / 2);
+        // Fixes the rounding errors of the square root.
+        while (moves > 0 && reach(moves - 1, speed) >= distance) moves--;
+        while (reach(moves, speed) < distance) moves++;
+        return moves;
+    }
+
+    private static long reach(long moves, int speed) {
+        return speed * moves + moves * (moves + 1) / 2;
+    }
+
+    /*
+     * The state of the search. It is also the action called for every
+     * successor of the expanded node, so no object is created while
+     * traversing. The graph can grow while it's traversed, so the arrays grow
+     * with it.
+     */
+    private static final class Search implements IntConsumer {
+        private final Graph<CarState> graph;
+        private int[] costs;
+        private int[] parents;
+        private final IntMinHeap open;
+        private final DistanceField distanceField;
+        private int current;
+
+        private Search(Graph<CarState> graph, DistanceField distanceField) {
+            this.graph = graph;
+            this.distanceField = distanceField;
+            this.costs = new int[Math.max(graph.nodeCount(), 16)];
+            this.parents = new int[Math.max(graph.nodeCount(), 16)];
+            this.open = new IntMinHeap(Math.max(graph.nodeCount(), 16));
+            Arrays.fill(costs, Integer.MAX_VALUE);
+        }
+
+        /*
+         * Adds the node to the open list, ordered by lower total cost first
+         * and between equal ones the deepest state. Nodes that can't reach a
+         * victory are left out.
+         */
+        private void push(int node, int cost) {
+            CarState state = graph.getNodeAtIndex(node).getLabel();
+            int distance = distanceField.distance(state.x(), state.y());
+            if (distance == DistanceField.UNREACHABLE) return;
+            int speed = Math.max(Math.abs(state.vx()), Math.abs(state.vy()));
+            long total = cost + movesLowerBound(distance, speed);
+            open.push(node, (total << 32) - cost);
+        }
+
+        @Override
+        public void accept(int node) {
+            if (node >= costs.length) {
+                int length = costs.length;
+                costs = Arrays.copyOf(costs, Math.max(node + 1, length * 2));
+                Arrays.fill(costs, length, costs.length, Integer.MAX_VALUE);
+                parents = Arrays.copyOf(parents, costs.length);
+            }
+            int cost = costs[current] + 1;
+            if (cost >= costs[node]) return;
+            costs[node] = cost;
+            parents[node] = current;
+            push(node, cost);
+        }
+    }
+}
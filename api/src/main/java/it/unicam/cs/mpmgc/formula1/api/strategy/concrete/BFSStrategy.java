@@ -25,50 +25,99 @@
 package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
 
 import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
-import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
 import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.function.IntConsumer;
 
 /**
  * A BFS Strategy is a {@link GraphBasedStrategy} that traverses the graph with
- * a BFS algorithm. It doesn't necessarily find the shortest path, but
- * will always eventually reach victory.
+ * a BFS algorithm. Since every edge of the graph is a single move, it always
+ * finds the victory reachable with the fewest moves.
  */
 public class BFSStrategy extends GraphBasedStrategy {
+    public BFSStrategy() {
+        super();
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public BFSStrategy(int maxStates) {
+        super(maxStates);
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter, planning every move for no longer than
+     * the budget passed as parameter. When the budget runs out, the car moves
+     * towards the state closest to the finish found so far.
+     * @param maxStates the maximum number of states of the graph.
+     * @param budget the longest time spent planning a move, zero for no limit.
+     * @throws NullPointerException if the budget is null.
+     * @throws IllegalArgumentException if the number is lower than 1, or the
+     * budget is negative.
+     */
+    public BFSStrategy(int maxStates, Duration budget) {
+        super(maxStates, budget);
+    }
+
     @Override
-    protected Stack<Vector2> traverse(Graph<Vector2> positionGraph, Vector2 start,
+    protected Stack<CarState> traverse(Graph<CarState> stateGraph, CarState start,
                       List<Vector2> victory){
-        Map<Vector2, Vector2> paths = new HashMap<>();
-        Queue<Vector2> queue = new ArrayDeque<>();
-
-        queue.add(start);
-        while (!queue.isEmpty()){
-            Vector2 v = queue.remove();
-            if (victory.contains(v)) return findPath(paths, start, v);
-            for (GraphNode<Vector2> node: positionGraph.getAdjacentNodesOf(new GraphNode<>(v))) {
-                if (!queue.contains(node.getLabel())){
-                    paths.put(node.getLabel(), v);
-                    queue.add(node.getLabel());
-                }
-            }
+        GoalSet goals = new GoalSet(victory);
+        int startIndex = stateGraph.getNodeIndexOf(start);
+        Queue queue = new Queue(stateGraph.nodeCount());
 
+        queue.parents[startIndex] = startIndex;
+        queue.nodes[queue.tail++] = startIndex;
+        while (queue.head < queue.tail){
+            int v = queue.nodes[queue.head++];
+            CarState state = stateGraph.getNodeAtIndex(v).getLabel();
+            if (goals.contains(state))
+                return findPath(stateGraph, queue.parents, startIndex, v);
+            expanded(v, state);
+            if (isOutOfTime())
+                return partialPath(stateGraph, queue.parents, startIndex);
+            queue.current = v;
+            stateGraph.forEachSuccessor(v, queue);
         }
         return null;
     }
 
-    private Stack<Vector2> findPath(Map<Vector2, Vector2> paths, Vector2 start,
-                                    Vector2 end){
-        Stack<Vector2> path = new Stack<>();
-        path.push(end);
+    /*
+     * Queue of node indexes. It is also the action called for every successor
+     * of the expanded node, so no object is created while traversing. The
+     * graph can grow while it's traversed, so the arrays grow with it.
+     */
+    private static final class Queue implements IntConsumer {
+        private int[] nodes;
+        private int[] parents;
+        private int head;
+        private int tail;
+        private int current;
 
-        Vector2 current = end;
-        while (current != start && current != null){
-            path.push(paths.get(current));
-            current = paths.get(current);
+        private Queue(int nodeCount) {
+            this.nodes = new int[Math.max(nodeCount, 16)];
+            this.parents = new int[Math.max(nodeCount, 16)];
+            Arrays.fill(parents, -1);
         }
 
-        path.pop();
-        return path;
+        @Override
+        public void accept(int node) {
+            if (node >= parents.length) {
+                int length = parents.length;
+                parents = Arrays.copyOf(parents, Math.max(node + 1, length * 2));
+                Arrays.fill(parents, length, parents.length, -1);
+            }
+            if (parents[node] != -1) return;
+            parents[node] = current;
+            if (tail == nodes.length) nodes = Arrays.copyOf(nodes, tail * 2);
+            nodes[tail++] = node;
+        }
     }
 }
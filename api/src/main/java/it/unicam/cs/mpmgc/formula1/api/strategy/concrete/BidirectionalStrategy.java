@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.track.RoadGrid;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * A Bidirectional Strategy is a {@link GraphBasedStrategy} that traverses the
+ * graph with two BFS at once: one going forward from the car, and one going
+ * backward from every state on a victory. Every time the side with the
+ * smaller frontier is expanded by one level, and the search stops as soon as
+ * the two sides meet. Like the BFS it finds the victory reachable with the
+ * fewest moves, but on long tracks with few victories it touches far less
+ * states.
+ * <p>
+ * The backward side doesn't use the graph: the predecessors of a state are
+ * generated from the moves that can end in it, so the graph is only built as
+ * far as the forward side goes. It never goes faster than the car can
+ * {@link #maxSpeed reach}.
+ */
+public class BidirectionalStrategy extends GraphBasedStrategy {
+    public BidirectionalStrategy() {
+        super();
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter. The backward side never reaches more
+     * states than that either.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public BidirectionalStrategy(int maxStates) {
+        super(maxStates);
+    }
+
+    @Override
+    protected Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories) {
+        if (new GoalSet(victories).contains(start)) return new Stack<>();
+        Meeting meeting = new Meeting();
+        Forward forward = new Forward(graph, meeting);
+        Backward backward = new Backward(RoadGrid.of(track), maxStates, maxSpeed(start), meeting);
+        forward.other = backward;
+        backward.other = forward;
+
+        forward.addRoot(graph.getNodeIndexOf(start), start.pack());
+        for (Vector2 victory : victories) backward.addGoals(victory);
+
+        while (!forward.isFrontierEmpty() && !backward.isFrontierEmpty()) {
+            if (forward.frontierSize() <= backward.frontierSize())
+                forward.expandLevel();
+            else
+                backward.expandLevel();
+            if (meeting.cost != Integer.MAX_VALUE)
+                return joinPaths(graph, forward, backward, meeting);
+        }
+        return null;
+    }
+
+    // The path from the start to the meeting, and then to the victory.
+    private static Stack<CarState> joinPaths(Graph<CarState> graph, Forward forward,
+                                             Backward backward, Meeting meeting) {
+        List<CarState> path = new ArrayList<>();
+        for (int v = meeting.forwardNode; forward.distances[v] != 0; v = forward.links[v])
+            path.add(graph.getNodeAtIndex(v).getLabel());
+        Collections.reverse(path);
+        for (int v = meeting.backwardNode; ; v = backward.links[v]) {
+            path.add(CarState.unpack(backward.states[v]));
+            if (backward.distances[v] == 0) break;
+        }
+
+        Stack<CarState> stack = new Stack<>();
+        for (int i = path.size() - 1; i >= 0; i--) stack.push(path.get(i));
+        return stack;
+    }
+
+    /*
+     * The shortest edge found so far linking a state reached going forward
+     * to a state reached going backward.
+     */
+    private static final class Meeting {
+        private int cost = Integer.MAX_VALUE;
+        private int forwardNode;
+        private int backwardNode;
+    }
+
+    /*
+     * One of the two searches. Every state reached gets a node of the side,
+     * and the packed states are kept in a map so that the other side can
+     * find them without creating any object.
+     */
+    private abstract static class Side {
+        private final Meeting meeting;
+        private final LongIntHashMap reached;
+        int[] distances;
+        int[] links;
+        int[] queue;
+        Side other;
+        private int current;
+        private int head;
+        private int tail;
+
+        private Side(Meeting meeting) {
+            this.meeting = meeting;
+            this.reached = new LongIntHashMap(1024);
+            this.distances = new int[1024];
+            this.links = new int[1024];
+            this.queue = new int[1024];
+            Arrays.fill(distances, -1);
+        }
+
+        void addRoot(int node, long state) {
+            ensureCapacity(node);
+            if (distances[node] != -1) return;
+            reached.put(state, node);
+            distances[node] = 0;
+            links[node] = node;
+            queue[tail++] = node;
+        }
+
+        boolean isFrontierEmpty() {
+            return head == tail;
+        }
+
+        int frontierSize() {
+            return tail - head;
+        }
+
+        void expandLevel() {
+            int levelEnd = tail;
+            while (head < levelEnd) {
+                current = queue[head++];
+                expand(current);
+            }
+        }
+
+        // Calls reach for every neighbour of the node.
+        abstract void expand(int node);
+
+        abstract boolean isForward();
+
+        // Returns the node of the state, or -1 if the side didn't reach it.
+        int nodeOf(long state) {
+            return reached.get(state, -1);
+        }
+
+        // The state passed as parameter, whose node is node, is a neighbour of the current one.
+        void reach(int node, long state) {
+            int otherNode = other.nodeOf(state);
+            if (otherNode != -1) {
+                int cost = distances[current] + 1 + other.distances[otherNode];
+                if (cost < meeting.cost) {
+                    meeting.cost = cost;
+                    meeting.forwardNode = isForward() ? current : otherNode;
+                    meeting.backwardNode = isForward() ? otherNode : current;
+                }
+            }
+            ensureCapacity(node);
+            if (distances[node] != -1) return;
+            reached.put(state, node);
+            distances[node] = distances[current] + 1;
+            links[node] = current;
+            queue[tail++] = node;
+        }
+
+        private void ensureCapacity(int node) {
+            if (node < distances.length) return;
+            int length = Math.max(distances.length * 2, node + 1);
+            int oldLength = distances.length;
+            distances = Arrays.copyOf(distances, length);
+            Arrays.fill(distances, oldLength, length, -1);
+            links = Arrays.copyOf(links, length);
+            queue = Arrays.copyOf(queue, length);
+        }
+    }
+
+    // The side going forward, whose nodes are the ones of the graph.
+    private static final class Forward extends Side implements IntConsumer {
+        private final Graph<CarState> graph;
+
+        private Forward(Graph<CarState> graph, Meeting meeting) {
+            super(meeting);
+            this.graph = graph;
+        }
+
+        @Override
+        void expand(int node) {
+            graph.forEachSuccessor(node, this);
+        }
+
+        @Override
+        boolean isForward() {
+            return true;
+        }
+
+        @Override
+        public void accept(int node) {
+            reach(node, graph.getNodeAtIndex(node).getLabel().pack());
+        }
+    }
+
+    /*
+     * The side going backward. The predecessors of the state (p, v) are the
+     * states (p - v, v - a) for every acceleration a, when the move from
+     * p - v to p doesn't crash, and v - a isn't faster than the car can go.
+     */
+    private static final class Backward extends Side {
+        private final RoadGrid grid;
+        private final int maxStates;
+        private final int maxSpeed;
+        private long[] states;
+        private int stateCount;
+
+        private Backward(RoadGrid grid, int maxStates, int maxSpeed, Meeting meeting) {
+            super(meeting);
+            this.grid = grid;
+            this.maxStates = maxStates;
+            this.maxSpeed = maxSpeed;
+            this.states = new long[1024];
+        }
+
+        /*
+         * Adds the states on the victory passed as parameter: one for every
+         * position the victory can be reached from with a single move, no
+         * faster than the car can go.
+         */
+        private void addGoals(Vector2 victory) {
+            for (int y = victory.y() - maxSpeed; y <= victory.y() + maxSpeed; y++)
+                for (int x = victory.x() - maxSpeed; x <= victory.x() + maxSpeed; x++)
+                    if (grid.isInsideRoad(x, y) && !grid.hasCrashed(x, y, victory.x(), victory.y()))
+                        addGoal(victory.x(), victory.y(), victory.x() - x, victory.y() - y);
+        }
+
+        private void addGoal(int x, int y, int vx, int vy) {
+            long state = CarState.pack(x, y, vx, vy);
+            if (nodeOf(state) != -1 || stateCount == maxStates) return;
+            addRoot(newNode(state), state);
+        }
+
+        private int newNode(long state) {
+            if (stateCount == states.length) states = Arrays.copyOf(states, stateCount * 2);
+            states[stateCount] = state;
+            return stateCount++;
+        }
+
+        @Override
+        void expand(int node) {
+            long state = states[node];
+            int x = (short) (state >>> 48), y = (short) (state >>> 32);
+            int vx = (short) (state >>> 16), vy = (short) state;
+            int px = x - vx, py = y - vy;
+            if (!grid.isInsideRoad(px, py) || grid.hasCrashed(px, py, x, y)) return;
+            for (int ax = -1; ax <= 1; ax++) {
+                for (int ay = -1; ay <= 1; ay++) {
+                    // Staying still isn't a move.
+                    if (vx == 0 && vy == 0 && ax == 0 && ay == 0) continue;
+                    if (Math.abs(vx - ax) > maxSpeed || Math.abs(vy - ay) > maxSpeed) continue;
+                    long previous = CarState.pack(px, py, vx - ax, vy - ay);
+                    int previousNode = nodeOf(previous);
+                    if (previousNode == -1) {
+                        if (stateCount == maxStates) continue;
+                        previousNode = newNode(previous);
+                    }
+                    reach(previousNode, previous);
+                }
+            }
+        }
+
+        @Override
+        boolean isForward() {
+            return false;
+        }
+    }
+}
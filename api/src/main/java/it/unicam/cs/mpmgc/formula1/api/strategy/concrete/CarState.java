@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+/**
+ * The state of a car in a given moment: its position and its velocity. Two
+ * cars in the same position but with a different velocity can reach different
+ * positions, so they are in two different states.
+ * <p>
+ * Every component must fit in 16 bits, so that a state can be packed in a
+ * single long and used as a key without creating any object.
+ * @param x The x of the position.
+ * @param y The y of the position.
+ * @param vx The x of the velocity.
+ * @param vy The y of the velocity.
+ */
+public record CarState(int x, int y, int vx, int vy) {
+    public CarState {
+        if (x != (short) x || y != (short) y || vx != (short) vx || vy != (short) vy)
+            throw new IllegalArgumentException("A component of the state " +
+                    "doesn't fit in 16 bits");
+    }
+
+    public CarState(Vector2 position, Vector2 velocity) {
+        this(position.x(), position.y(), velocity.x(), velocity.y());
+    }
+
+    /**
+     * Returns the position of this state.
+     * @return the position of this state.
+     */
+    public Vector2 position() {
+        return new Vector2(x, y);
+    }
+
+    /**
+     * Returns the velocity of this state, that is also the last move done to
+     * reach it.
+     * @return the velocity of this state.
+     */
+    public Vector2 velocity() {
+        return new Vector2(vx, vy);
+    }
+
+    /**
+     * Returns the state reached doing the move passed as parameter, that
+     * becomes the new velocity.
+     * @param move the move done from this state.
+     * @return the state reached with the move.
+     */
+    public CarState move(Vector2 move) {
+        return new CarState(x + move.x(), y + move.y(), move.x(), move.y());
+    }
+
+    /**
+     * Packs this state in a long, 16 bits for every component.
+     * @return this state packed in a long.
+     */
+    public long pack() {
+        return pack(x, y, vx, vy);
+    }
+
+    /**
+     * Packs the components of a state in a long, 16 bits for every component,
+     * without creating the state.
+     * @param x The x of the position.
+     * @param y The y of the position.
+     * @param vx The x of the velocity.
+     * @param vy The y of the velocity.
+     * @return the components packed in a long.
+     */
+    public static long pack(int x, int y, int vx, int vy) {
+        return ((long) (x & 0xFFFF) << 48) | ((long) (y & 0xFFFF) << 32)
+                | ((long) (vx & 0xFFFF) << 16) | (vy & 0xFFFF);
+    }
+
+    /**
+     * Returns the state packed in the long passed as parameter.
+     * @param packed a state packed with {@link #pack()}.
+     * @return the state packed in the long.
+     */
+    public static CarState unpack(long packed) {
+        return new CarState((short) (packed >>> 48), (short) (packed >>> 32),
+                (short) (packed >>> 16), (short) packed);
+    }
+}
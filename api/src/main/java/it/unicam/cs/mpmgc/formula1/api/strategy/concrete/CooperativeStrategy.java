@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackElement;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * A Cooperative Strategy is a {@link GraphBasedStrategy} that plans together
+ * with the other cars following it on the same track. The cars plan one at a
+ * time, in the order they ask for a plan, which during the race is the order
+ * they move in. Every plan reserves the position of the car after each of its
+ * moves, and the cars planning later never end a move on a position reserved
+ * for that move, so no two of them are ever on the same position at the same
+ * time.
+ * <p>
+ * The graph is traversed like the {@link AStarStrategy}, and every state is
+ * reached once, with the fewest moves that don't end on a reserved position.
+ * This keeps the search as fast as a plain A* even with many cars, but a car
+ * never waits for a position to be freed.
+ * <p>
+ * Since the plan depends on the other cars, it's never shared with other
+ * strategies.
+ */
+public class CooperativeStrategy extends GraphBasedStrategy {
+    private static final AtomicInteger OWNERS = new AtomicInteger();
+
+    private final int owner = OWNERS.incrementAndGet();
+    private ReservationTable reservations;
+    private long[] reserved = new long[0];
+    private int tick;
+
+    public CooperativeStrategy() {
+        super();
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public CooperativeStrategy(int maxStates) {
+        super(maxStates);
+    }
+
+    @Override
+    public Vector2 decideNextMove(Vector2[] possiblePositions, Entity thisEntity, SimulationInfo sim) {
+        prepare(thisEntity, sim);
+        tick++;
+        Vector2 move = stateStack.isEmpty()
+                ? safestMove(possiblePositions, new CarState(thisEntity.getPosition(), thisEntity.getAcceleration()))
+                : stateStack.pop().velocity();
+        // The car leaves the race crashing or winning, so its cells are free for the others.
+        // The victories are the only positions at no distance from a victory.
+        Vector2 next = thisEntity.getPosition().sum(move);
+        if (track.hasEntityCrashed(thisEntity.getPosition(), next)
+                || DistanceField.of(track).distance(next) == 0) {
+            if (reservations != null) {
+                synchronized (reservations) {
+                    releaseAll();
+                }
+            }
+        }
+        return move;
+    }
+
+    /**
+     * Plans the moves from the current state of the entity and reserves them,
+     * unless the moves planned earlier aren't over yet. The reservations of
+     * the previous plan are freed first. The positions already reserved by
+     * other cars are left to them.
+     */
+    @Override
+    public void prepare(Entity thisEntity, SimulationInfo sim) {
+        track = sim.track();
+        if (!stateStack.isEmpty()) return;
+        CarState current = new CarState(thisEntity.getPosition(), thisEntity.getAcceleration());
+        reservations = ReservationTable.of(track);
+        synchronized (reservations) {
+            releaseAll();
+            if (stateGraph.isEmpty() || !stateGraph.containsNode(new GraphNode<>(current)))
+                createStateGraph(current, track);
+            Stack<CarState> path = traverse(stateGraph, current,
+                    track.getAllPositionsOfElement(TrackElement.VICTORY));
+            if (path == null) return;
+
+            stateStack = path;
+            long[] cells = new long[path.size() + 1];
+            cells[0] = ReservationTable.cell(current.x(), current.y(), tick);
+            // The top of the stack is the first move.
+            for (int move = 1; move <= path.size(); move++) {
+                CarState state = path.get(path.size() - move);
+                cells[move] = ReservationTable.cell(state.x(), state.y(), tick + move);
+            }
+            int count = 0;
+            for (long cell : cells)
+                if (reservations.reserve(cell, owner)) cells[count++] = cell;
+            reserved = Arrays.copyOf(cells, count);
+        }
+    }
+
+    // Frees every position reserved by this car. The table must be locked.
+    private void releaseAll() {
+        for (long cell : reserved) reservations.release(cell, owner);
+        reserved = new long[0];
+    }
+
+    @Override
+    protected Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories) {
+        GoalSet goals = new GoalSet(victories);
+        if (goals.isEmpty()) return null;
+        int startIndex = graph.getNodeIndexOf(start);
+        Search search = new Search(graph, DistanceField.of(track));
+
+        search.costs[startIndex] = 0;
+        search.parents[startIndex] = startIndex;
+        search.push(startIndex, 0);
+        while (!search.open.isEmpty()) {
+            int v = search.open.poll();
+            if (goals.contains(graph.getNodeAtIndex(v).getLabel()))
+                return findPath(graph, search.parents, startIndex, v);
+            search.current = v;
+            graph.forEachSuccessor(v, search);
+        }
+        return null;
+    }
+
+    /*
+     * The state of the search, like the one of the A* Strategy. The cost of
+     * a node is also the number of moves after the current one it's reached
+     * at, so the successors on a position reserved for that move are skipped.
+     */
+    private final class Search implements IntConsumer {
+        private final Graph<CarState> graph;
+        private int[] costs;
+        private int[] parents;
+        private final IntMinHeap open;
+        private final DistanceField distanceField;
+        private int current;
+
+        private Search(Graph<CarState> graph, DistanceField distanceField) {
+            this.graph = graph;
+            this.distanceField = distanceField;
+            this.costs = new int[Math.max(graph.nodeCount(), 16)];
+            this.parents = new int[Math.max(graph.nodeCount(), 16)];
+            this.open = new IntMinHeap(Math.max(graph.nodeCount(), 16));
+            Arrays.fill(costs, Integer.MAX_VALUE);
+        }
+
+        private void push(int node, int cost) {
+            CarState state = graph.getNodeAtIndex(node).getLabel();
+            int distance = distanceField.distance(state.x(), state.y());
+            if (distance == DistanceField.UNREACHABLE) return;
+            int speed = Math.max(Math.abs(state.vx()), Math.abs(state.vy()));
+            long total = cost + AStarStrategy.movesLowerBound(distance, speed);
+            open.push(node, (total << 32) - cost);
+        }
+
+        @Override
+        public void accept(int node) {
+            if (node >= costs.length) {
+                int length = costs.length;
+                costs = Arrays.copyOf(costs, Math.max(node + 1, length * 2));
+                Arrays.fill(costs, length, costs.length, Integer.MAX_VALUE);
+                parents = Arrays.copyOf(parents, costs.length);
+            }
+            int cost = costs[current] + 1;
+            if (cost >= costs[node]) return;
+            CarState state = graph.getNodeAtIndex(node).getLabel();
+            if (reservations.isReserved(ReservationTable.cell(state.x(), state.y(), tick + cost))) return;
+            costs[node] = cost;
+            parents[node] = current;
+            push(node, cost);
+        }
+    }
+}
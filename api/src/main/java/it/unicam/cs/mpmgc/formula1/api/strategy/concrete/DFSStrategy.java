@@ -25,10 +25,11 @@
 package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
 
 import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
-import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
 import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.function.IntConsumer;
 
 /**
  * A DFS Strategy is a {@link GraphBasedStrategy} that traverses the graph with
@@ -36,43 +37,102 @@ import java.util.*;
  * will always eventually reach victory.
  */
 public class DFSStrategy extends GraphBasedStrategy{
+    public DFSStrategy() {
+        super();
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public DFSStrategy(int maxStates) {
+        super(maxStates);
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter, planning every move for no longer than
+     * the budget passed as parameter. When the budget runs out, the car moves
+     * towards the state closest to the finish found so far.
+     * @param maxStates the maximum number of states of the graph.
+     * @param budget the longest time spent planning a move, zero for no limit.
+     * @throws NullPointerException if the budget is null.
+     * @throws IllegalArgumentException if the number is lower than 1, or the
+     * budget is negative.
+     */
+    public DFSStrategy(int maxStates, Duration budget) {
+        super(maxStates, budget);
+    }
+
     @Override
-    protected Stack<Vector2> traverse(Graph<Vector2> graph, Vector2 start, List<Vector2> victories) {
-        Map<Vector2, Vector2> paths = new HashMap<>();
-        List<Vector2> visited = new ArrayList<>();
+    protected Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories) {
+        GoalSet goals = new GoalSet(victories);
+        int startIndex = graph.getNodeIndexOf(start);
+        NodeStack nodeStack = new NodeStack(graph.nodeCount());
 
-        Stack<Vector2> nodeStack = new Stack<>();
-        nodeStack.push(start);
-        while (!nodeStack.isEmpty()){
-            Vector2 v = nodeStack.pop();
-            if(victories.contains(v)) {
-                return findPath(paths, start, v);
+        nodeStack.parents[startIndex] = startIndex;
+        nodeStack.push(startIndex);
+        while (nodeStack.size > 0){
+            int v = nodeStack.nodes[--nodeStack.size];
+            CarState state = graph.getNodeAtIndex(v).getLabel();
+            if(goals.contains(state)) {
+                return findPath(graph, nodeStack.parents, startIndex, v);
             }
-            if(!visited.contains(v)){
-                visited.add(v);
-                for (GraphNode<Vector2> node :positionGraph.getAdjacentNodesOf(new GraphNode<>(v))) {
-                    if(!visited.contains(node.getLabel())) {
-                        paths.put(node.getLabel(), v);
-                        nodeStack.push(node.getLabel());
-                    }
-                }
+            if(!nodeStack.isVisited(v)){
+                expanded(v, state);
+                if (isOutOfTime())
+                    return partialPath(graph, nodeStack.parents, startIndex);
+                nodeStack.visit(v);
+                nodeStack.current = v;
+                graph.forEachSuccessor(v, nodeStack);
             }
         }
         return null;
     }
 
-    private Stack<Vector2> findPath(Map<Vector2, Vector2> paths, Vector2 start,
-                                    Vector2 end){
-        Stack<Vector2> path = new Stack<>();
-        path.push(end);
+    /*
+     * Stack of node indexes. It is also the action called for every successor
+     * of the expanded node, so no object is created while traversing. The
+     * graph can grow while it's traversed, so the arrays grow with it.
+     */
+    private static final class NodeStack implements IntConsumer {
+        private long[] visited;
+        private int[] parents;
+        private int[] nodes;
+        private int size;
+        private int current;
+
+        private NodeStack(int nodeCount) {
+            this.visited = new long[(Math.max(nodeCount, 64) + 63) >>> 6];
+            this.parents = new int[Math.max(nodeCount, 64)];
+            this.nodes = new int[Math.max(nodeCount, 16)];
+        }
+
+        private void push(int node) {
+            if (size == nodes.length) nodes = Arrays.copyOf(nodes, size * 2);
+            nodes[size++] = node;
+        }
 
-        Vector2 current = end;
-        while (current != start && current != null){
-            path.push(paths.get(current));
-            current = paths.get(current);
+        // Visited nodes are kept as bits, 64 for every long.
+        private boolean isVisited(int node) {
+            return (visited[node >>> 6] & (1L << node)) != 0;
         }
 
-        path.pop();
-        return path;
+        private void visit(int node) {
+            visited[node >>> 6] |= 1L << node;
+        }
+
+        @Override
+        public void accept(int node) {
+            if (node >= parents.length) {
+                parents = Arrays.copyOf(parents, Math.max(node + 1, parents.length * 2));
+                visited = Arrays.copyOf(visited, (parents.length + 63) >>> 6);
+            }
+            if (isVisited(node)) return;
+            parents[node] = current;
+            push(node);
+        }
     }
 }
@@ -0,0 +1,338 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackElement;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * A D* Lite Strategy is a {@link GraphBasedStrategy} that plans with the D*
+ * Lite algorithm. It searches backward from the victories to the car, and
+ * keeps its search between the moves: at every move the positions taken by
+ * the other cars are blocked, and only the part of the search affected by the
+ * positions that changed since the last move is repaired. When the car is
+ * not where the plan expected, the search is reused as well, so it's never
+ * thrown away while the car stays inside the graph.
+ * <p>
+ * Since the plan depends on the other cars, it's never shared with other
+ * strategies.
+ */
+public class DStarLiteStrategy extends GraphBasedStrategy {
+    private Planner planner;
+
+    public DStarLiteStrategy() {
+        super();
+    }
+
+    /**
+     * Creates the strategy with a graph that never has more than the number
+     * of states passed as parameter.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public DStarLiteStrategy(int maxStates) {
+        super(maxStates);
+    }
+
+    @Override
+    public Vector2 decideNextMove(Vector2[] possiblePositions, Entity thisEntity, SimulationInfo sim) {
+        prepare(thisEntity, sim);
+        int next = planner.bestSuccessor();
+        if (next == -1)
+            return safestMove(possiblePositions, new CarState(thisEntity.getPosition(), thisEntity.getAcceleration()));
+        return stateGraph.getNodeAtIndex(next).getLabel().velocity();
+    }
+
+    /**
+     * Repairs the search from the current state of the entity, blocking the
+     * positions of the other cars. Before the race this does the whole first
+     * search.
+     */
+    @Override
+    public void prepare(Entity thisEntity, SimulationInfo sim) {
+        CarState current = new CarState(thisEntity.getPosition(), thisEntity.getAcceleration());
+        track = sim.track();
+        if (planner == null || !stateGraph.containsNode(new GraphNode<>(current))) {
+            createStateGraph(current, track);
+            // The search goes backward, so it needs every predecessor.
+            stateGraph = stateGraph.freeze();
+            List<Vector2> victories = track.getAllPositionsOfElement(TrackElement.VICTORY);
+            planner = new Planner(stateGraph, new GoalSet(victories), track.getWidth(), track.getHeight());
+        }
+
+        planner.moveStart(current);
+        planner.block(occupiedPositions(sim.entities(), thisEntity));
+        planner.computeShortestPath();
+    }
+
+    private static List<Vector2> occupiedPositions(List<Entity> entities, Entity thisEntity) {
+        List<Vector2> occupied = new ArrayList<>();
+        for (Entity entity : entities)
+            if (entity != thisEntity && entity.isAlive()) occupied.add(entity.getPosition());
+        return occupied;
+    }
+
+    @Override
+    protected Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories) {
+        graph = graph.freeze();
+        Planner planner = new Planner(graph, new GoalSet(victories), track.getWidth(), track.getHeight());
+        planner.moveStart(start);
+        planner.computeShortestPath();
+
+        List<CarState> path = new ArrayList<>();
+        int current = planner.start;
+        while (!planner.isGoal[current]) {
+            current = planner.bestSuccessor(current);
+            if (current == -1) return null;
+            path.add(graph.getNodeAtIndex(current).getLabel());
+        }
+        Stack<CarState> stack = new Stack<>();
+        for (int i = path.size() - 1; i >= 0; i--) stack.push(path.get(i));
+        return stack;
+    }
+
+    /*
+     * The state of the search. Costs are in moves, and a move ending on a
+     * blocked position costs INFINITY. The g of a state is its distance from
+     * the victories as known so far, and its rhs is the one expected looking
+     * at its successors: the states where they differ are in the open list.
+     */
+    private static final class Planner {
+        private static final int INFINITY = Integer.MAX_VALUE;
+
+        private final Graph<CarState> graph;
+        private final int[] g;
+        private final int[] rhs;
+        private final boolean[] isGoal;
+        private final IntMinHeap open;
+        private final int[] positionOf;
+        private final int[] positionOffsets;
+        private final int[] positionStates;
+        private final boolean[] blocked;
+        private final int width;
+        private final int height;
+        private final int maxSpeed;
+        private int[] blockedPositions = new int[0];
+        private int start = -1;
+        private int km;
+        private final Neighbours neighbours = new Neighbours();
+        private final MinSuccessor minSuccessor = new MinSuccessor();
+
+        private Planner(Graph<CarState> graph, GoalSet goals, int width, int height) {
+            int n = graph.nodeCount();
+            this.graph = graph;
+            this.g = new int[n];
+            this.rhs = new int[n];
+            this.isGoal = new boolean[n];
+            this.open = new IntMinHeap(n);
+            this.positionOf = new int[n];
+            this.positionOffsets = new int[width * height + 1];
+            this.positionStates = new int[n];
+            this.blocked = new boolean[width * height];
+            this.width = width;
+            this.height = height;
+            Arrays.fill(g, INFINITY);
+            Arrays.fill(rhs, INFINITY);
+
+            // States grouped by position, to find them when it gets blocked.
+            int maxSpeed = 1;
+            for (int i = 0; i < n; i++) {
+                CarState state = graph.getNodeAtIndex(i).getLabel();
+                isGoal[i] = goals.contains(state);
+                if (isGoal[i]) rhs[i] = 0;
+                positionOf[i] = state.y() * width + state.x();
+                positionOffsets[positionOf[i] + 1]++;
+                maxSpeed = Math.max(maxSpeed, Math.max(Math.abs(state.vx()), Math.abs(state.vy())));
+            }
+            this.maxSpeed = maxSpeed;
+            for (int p = 0; p < width * height; p++) positionOffsets[p + 1] += positionOffsets[p];
+            int[] next = Arrays.copyOf(positionOffsets, width * height);
+            for (int i = 0; i < n; i++) positionStates[next[positionOf[i]]++] = i;
+        }
+
+        // Lower bound of the moves between two states: no move is longer than the top speed.
+        private int heuristic(int from, int to) {
+            int dx = Math.abs(positionOf[from] % width - positionOf[to] % width);
+            int dy = Math.abs(positionOf[from] / width - positionOf[to] / width);
+            return (Math.max(dx, dy) + maxSpeed - 1) / maxSpeed;
+        }
+
+        private long key(int node) {
+            int min = Math.min(g[node], rhs[node]);
+            if (min == INFINITY) return Long.MAX_VALUE;
+            return ((long) min + heuristic(start, node) + km) << 32 | min;
+        }
+
+        private int cost(int to) {
+            return blocked[positionOf[to]] ? INFINITY : 1;
+        }
+
+        private static int add(int cost, int distance) {
+            return cost == INFINITY || distance == INFINITY ? INFINITY : cost + distance;
+        }
+
+        private void updateVertex(int node) {
+            if (g[node] != rhs[node]) open.update(node, key(node));
+            else open.remove(node);
+        }
+
+        private int successorsMin(int node) {
+            minSuccessor.best = INFINITY;
+            minSuccessor.bestNode = -1;
+            graph.forEachSuccessor(node, minSuccessor);
+            return minSuccessor.best;
+        }
+
+        private void moveStart(CarState state) {
+            int newStart = graph.getNodeIndexOf(state);
+            if (start == -1) {
+                start = newStart;
+                for (int i = 0; i < isGoal.length; i++)
+                    if (isGoal[i]) open.push(i, key(i));
+                return;
+            }
+            km += heuristic(start, newStart);
+            start = newStart;
+        }
+
+        // Blocks the positions passed as parameter, and frees the others.
+        private void block(List<Vector2> positions) {
+            int[] newBlocked = new int[positions.size()];
+            int count = 0;
+            for (Vector2 position : positions)
+                if (position.x() >= 0 && position.y() >= 0 && position.x() < width && position.y() < height)
+                    newBlocked[count++] = position.y() * width + position.x();
+            newBlocked = Arrays.copyOf(newBlocked, count);
+
+            for (int position : blockedPositions)
+                if (blocked[position]) changePosition(position, false);
+            for (int position : newBlocked)
+                if (!blocked[position]) changePosition(position, true);
+            blockedPositions = newBlocked;
+        }
+
+        private void changePosition(int position, boolean isBlocked) {
+            blocked[position] = isBlocked;
+            for (int i = positionOffsets[position]; i < positionOffsets[position + 1]; i++) {
+                int v = positionStates[i];
+                neighbours.collect(graph, v, false);
+                for (int j = 0; j < neighbours.size; j++) {
+                    int u = neighbours.nodes[j];
+                    if (isGoal[u]) continue;
+                    if (isBlocked) {
+                        if (rhs[u] == add(1, g[v])) rhs[u] = successorsMin(u);
+                    } else {
+                        rhs[u] = Math.min(rhs[u], add(1, g[v]));
+                    }
+                    updateVertex(u);
+                }
+            }
+        }
+
+        private void computeShortestPath() {
+            while (!open.isEmpty() && (open.peekKey() < key(start) || rhs[start] != g[start])) {
+                int u = open.peek();
+                long oldKey = open.peekKey();
+                long newKey = key(u);
+                if (oldKey < newKey) {
+                    open.update(u, newKey);
+                } else if (g[u] > rhs[u]) {
+                    g[u] = rhs[u];
+                    open.remove(u);
+                    neighbours.collect(graph, u, false);
+                    for (int j = 0; j < neighbours.size; j++) {
+                        int s = neighbours.nodes[j];
+                        if (isGoal[s]) continue;
+                        rhs[s] = Math.min(rhs[s], add(cost(u), g[u]));
+                        updateVertex(s);
+                    }
+                } else {
+                    int oldG = g[u];
+                    g[u] = INFINITY;
+                    neighbours.collect(graph, u, true);
+                    for (int j = 0; j < neighbours.size; j++) {
+                        int s = neighbours.nodes[j];
+                        if (!isGoal[s] && (s == u || rhs[s] == add(cost(u), oldG)))
+                            rhs[s] = successorsMin(s);
+                        updateVertex(s);
+                    }
+                }
+            }
+        }
+
+        private int bestSuccessor() {
+            return bestSuccessor(start);
+        }
+
+        // The successor on the shortest path to a victory, or -1 if there's none.
+        private int bestSuccessor(int node) {
+            successorsMin(node);
+            return minSuccessor.best == INFINITY ? -1 : minSuccessor.bestNode;
+        }
+
+        // Finds the successor with the lowest cost plus g.
+        private final class MinSuccessor implements IntConsumer {
+            private int best;
+            private int bestNode;
+
+            @Override
+            public void accept(int node) {
+                int distance = add(cost(node), g[node]);
+                if (distance < best) {
+                    best = distance;
+                    bestNode = node;
+                }
+            }
+        }
+    }
+
+    /*
+     * Copies the predecessors of a node, so they can be updated while other
+     * neighbours are being visited.
+     */
+    private static final class Neighbours implements IntConsumer {
+        private int[] nodes = new int[16];
+        private int size;
+
+        private void collect(Graph<CarState> graph, int node, boolean withNode) {
+            size = 0;
+            graph.forEachPredecessor(node, this);
+            if (withNode) accept(node);
+        }
+
+        @Override
+        public void accept(int node) {
+            if (size == nodes.length) nodes = Arrays.copyOf(nodes, size * 2);
+            nodes[size++] = node;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.List;
+
+/*
+ * Set of goal positions kept as a bitset over the smallest box containing all
+ * of them, so checking whether a position is a goal is a single bit read.
+ */
+final class GoalSet {
+    private final int minX;
+    private final int minY;
+    private final int width;
+    private final int height;
+    private final long[] bits;
+
+    GoalSet(List<Vector2> goals) {
+        if (goals == null) throw new NullPointerException("Goals are null");
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (Vector2 goal : goals) {
+            minX = Math.min(minX, goal.x());
+            minY = Math.min(minY, goal.y());
+            maxX = Math.max(maxX, goal.x());
+            maxY = Math.max(maxY, goal.y());
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.width = goals.isEmpty() ? 0 : maxX - minX + 1;
+        this.height = goals.isEmpty() ? 0 : maxY - minY + 1;
+        this.bits = new long[(int) (((long) width * height + 63) >>> 6)];
+        for (Vector2 goal : goals) {
+            int bit = (goal.y() - minY) * width + (goal.x() - minX);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    boolean isEmpty() {
+        return width == 0;
+    }
+
+    boolean contains(int x, int y) {
+        int dx = x - minX;
+        int dy = y - minY;
+        if (dx < 0 || dy < 0 || dx >= width || dy >= height) return false;
+        int bit = dy * width + dx;
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    boolean contains(CarState state) {
+        return contains(state.x(), state.y());
+    }
+}
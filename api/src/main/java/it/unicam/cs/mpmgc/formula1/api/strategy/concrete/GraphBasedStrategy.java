@@ -24,88 +24,324 @@
 
 package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
 
-import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
 import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
 import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
 import it.unicam.cs.mpmgc.formula1.api.strategy.Strategy;
 import it.unicam.cs.mpmgc.formula1.api.strategy.graph.AdjacencyMatrixDirectedGraph;
 import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
-import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphEdge;
 import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.RoadGrid;
 import it.unicam.cs.mpmgc.formula1.api.track.Track;
 import it.unicam.cs.mpmgc.formula1.api.track.TrackElement;
 import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Stack;
+import java.time.Duration;
+import java.util.*;
 
 /**
  * Describes all those Strategy that are based on a
  * {@link it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph Graph}. These
- * strategy create a graph containing all achievable positions of a car (also
- * taking into account their acceleration and speed), and then returns a
- * position to move to accordingly to its traversing algorithm.
+ * strategy traverse the graph of all achievable states of a car, that is its
+ * position together with its velocity, and then return a move accordingly to
+ * their traversing algorithm. The graph is generated while it's traversed, so
+ * a search that reaches a victory early doesn't pay for the rest of it.
+ * <p>
+ * Plans are shared through the {@link PlanCache}, so cars of the same kind
+ * starting from the same state on the same track search only once.
  */
 public abstract class GraphBasedStrategy implements Strategy {
-    protected Graph<Vector2> positionGraph;
-    protected Stack<Vector2> positionStack;
+    /**
+     * The number of states a graph can have if not told otherwise.
+     */
+    public static final int DEFAULT_MAX_STATES = 1 << 22;
+
+    protected Graph<CarState> stateGraph;
+    protected Stack<CarState> stateStack;
+    protected Track<?> track;
+    protected final int maxStates;
+    private final long budgetNanos;
+    private long deadline;
+    private int expansions;
+    private int closest;
+    private CarState closestState;
+    private int closestMoves;
+    private boolean isPartial;
+    private Stack<CarState> safeStack = new Stack<>();
 
     protected GraphBasedStrategy() {
-        this.positionGraph = new AdjacencyMatrixDirectedGraph<>();
-        this.positionStack = new Stack<>();
+        this(DEFAULT_MAX_STATES);
+    }
+
+    /**
+     * Creates a strategy whose graph never has more than the number of
+     * states passed as parameter. When there are more reachable states, the
+     * farthest from the car are left out, so a plan might not be found.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    protected GraphBasedStrategy(int maxStates) {
+        this(maxStates, Duration.ZERO);
     }
 
+    /**
+     * Creates a strategy whose graph never has more than the number of
+     * states passed as parameter, and that never plans for longer than the
+     * budget passed as parameter at every move. When the budget runs out, the
+     * car moves towards the state closest to the finish found so far, and
+     * the search goes on at the next move, on the part of the graph already
+     * generated. A budget of zero means no limit.
+     * <p>
+     * Only the strategies that check {@link #isOutOfTime()} while traversing
+     * respect the budget.
+     * @param maxStates the maximum number of states of the graph.
+     * @param budget the longest time spent planning a move.
+     * @throws NullPointerException if the budget is null.
+     * @throws IllegalArgumentException if the number is lower than 1, or the
+     * budget is negative.
+     */
+    protected GraphBasedStrategy(int maxStates, Duration budget) {
+        if (maxStates < 1)
+            throw new IllegalArgumentException("The maximum number of states " +
+                    "must be at least 1");
+        if (budget == null) throw new NullPointerException("Budget is null");
+        if (budget.isNegative())
+            throw new IllegalArgumentException("The budget is negative");
+        this.stateGraph = new AdjacencyMatrixDirectedGraph<>();
+        this.stateStack = new Stack<>();
+        this.maxStates = maxStates;
+        this.budgetNanos = budget.toNanos();
+    }
+
+    // Strategies of the same class with the same cap find the same plans.
+    private record PlanKind(Class<?> strategy, int maxStates) {}
+
     @Override
     public Vector2 decideNextMove(Vector2[] possiblePositions, Entity thisEntity, SimulationInfo sim) {
-        if (positionGraph.isEmpty()) createPositionGraph(possiblePositions, thisEntity.getPosition(), sim.track());
-        if (positionStack.isEmpty())
-            positionStack = traverse(positionGraph, thisEntity.getPosition(), sim.track().getAllPositionsOfElement(TrackElement.VICTORY));
+        prepare(thisEntity, sim);
+        if (stateStack.isEmpty())
+            return safestMove(possiblePositions, new CarState(thisEntity.getPosition(), thisEntity.getAcceleration()));
+        return stateStack.pop().velocity();
+    }
 
-        return positionStack.pop().substr(thisEntity.getPosition());
+    /**
+     * Plans the moves from the current state of the entity, unless the moves
+     * planned earlier aren't over yet.
+     */
+    @Override
+    public void prepare(Entity thisEntity, SimulationInfo sim) {
+        CarState current = new CarState(thisEntity.getPosition(), thisEntity.getAcceleration());
+        track = sim.track();
+        if (!stateStack.isEmpty()) return;
+        List<Vector2> victories = track.getAllPositionsOfElement(TrackElement.VICTORY);
+        if (budgetNanos > 0) {
+            prepareWithinBudget(current, victories);
+            return;
+        }
+        List<CarState> plan = PlanCache.getPlan(track, current, new PlanKind(getClass(), maxStates),
+                () -> plan(current, victories));
+        if (plan == null || plan.isEmpty()) return;
+        stateStack = toStack(plan);
     }
 
-    private void createPositionGraph(Vector2[] possiblePositions, Vector2 current, Track track){
-        Stack<Vector2> positionsToCheck = new Stack<>();
+    /*
+     * A plan found within a budget depends on how fast the search was, so it's
+     * never shared. When the search is cut short, the car goes towards the
+     * closest state it can still stop from, and then brakes: only the first
+     * move is done, and the rest is kept to follow if the next searches find
+     * no better state to stop from.
+     */
+    private void prepareWithinBudget(CarState current, List<Vector2> victories) {
+        List<CarState> plan = plan(current, victories);
+        if (plan != null && !isPartial) {
+            safeStack = new Stack<>();
+            stateStack = toStack(plan);
+            return;
+        }
+        if (plan != null && closest != -1) {
+            List<CarState> path = new ArrayList<>(plan);
+            path.addAll(brakingStates(closestState));
+            safeStack = toStack(path);
+        }
+        if (!safeStack.isEmpty() && isNext(current, safeStack.peek())) {
+            stateStack = new Stack<>();
+            stateStack.push(safeStack.pop());
+        }
+    }
+
+    private static boolean isNext(CarState current, CarState next) {
+        return Math.abs(next.vx() - current.vx()) <= 1 && Math.abs(next.vy() - current.vy()) <= 1
+                && next.position().equals(current.position().sum(next.velocity()));
+    }
 
-        GraphNode<Vector2> currentNode = new GraphNode<>(current);
-        positionGraph.addNode(currentNode);
-        for (Vector2 pos: possiblePositions) {
-            Vector2 currentSum = current.sum(pos);
-            if(track.hasEntityCrashed(current,currentSum) || current.equals(currentSum)) continue;
+    /*
+     * The states the car goes through braking as hard as it can from the
+     * state passed as parameter, until it stops, or null if it crashes.
+     */
+    private List<CarState> brakingStates(CarState state) {
+        RoadGrid grid = RoadGrid.of(track);
+        List<CarState> states = new ArrayList<>();
+        while (state.vx() != 0 || state.vy() != 0) {
+            int vx = state.vx() - Integer.signum(state.vx());
+            int vy = state.vy() - Integer.signum(state.vy());
+            if (grid.hasCrashed(state.x(), state.y(), state.x() + vx, state.y() + vy)) return null;
+            state = new CarState(state.x() + vx, state.y() + vy, vx, vy);
+            states.add(state);
+        }
+        return states;
+    }
 
-            GraphNode<Vector2> newNode = new GraphNode<>(currentSum);
-            if(positionGraph.addNode(newNode)){
-                positionsToCheck.push(pos);
-                positionGraph.addEdge(new GraphEdge<>(currentNode, newNode, true));
+    // Builds the graph, if it doesn't start from the current state, and traverses it.
+    private List<CarState> plan(CarState current, List<Vector2> victories) {
+        if (stateGraph.isEmpty() || !stateGraph.containsNode(new GraphNode<>(current)))
+            createStateGraph(current, track);
+        deadline = System.nanoTime() + budgetNanos;
+        expansions = 0;
+        closest = -1;
+        closestState = null;
+        closestMoves = Integer.MAX_VALUE;
+        isPartial = false;
+        Stack<CarState> path = traverse(stateGraph, current, victories);
+        if (path == null) return null;
+        List<CarState> plan = new ArrayList<>(path);
+        Collections.reverse(plan);
+        return plan;
+    }
+
+    private static Stack<CarState> toStack(List<CarState> plan) {
+        Stack<CarState> stack = new Stack<>();
+        for (int i = plan.size() - 1; i >= 0; i--) stack.push(plan.get(i));
+        return stack;
+    }
+
+    /**
+     * Returns the move to do without a plan: the car slows down as much as it
+     * can without crashing, and tries to plan again at the next move.
+     * @param possibleMoves The possible moves of the car.
+     * @param current The current state of the car.
+     * @return The slowest move that doesn't crash, or the current velocity
+     * if every move crashes.
+     */
+    protected Vector2 safestMove(Vector2[] possibleMoves, CarState current) {
+        Vector2 safest = current.velocity();
+        int lowestSpeed = Integer.MAX_VALUE;
+        for (Vector2 move : possibleMoves) {
+            int speed = Math.max(Math.abs(move.x()), Math.abs(move.y()));
+            if (speed < lowestSpeed && !track.hasEntityCrashed(current.position(),
+                    current.position().sum(move))) {
+                safest = move;
+                lowestSpeed = speed;
             }
         }
+        return safest;
+    }
+
+    /**
+     * Creates the graph of the states reachable from the start without
+     * crashing, and sets it as the {@link #stateGraph}. The graph is an
+     * {@link ImplicitStateGraph}, so states are generated only when the
+     * traversal reaches them: traversals must not expect the number of nodes
+     * to stay the same while they run, or {@link Graph#freeze() freeze} the
+     * graph first.
+     * @param start The state the graph starts from.
+     * @param track The track.
+     */
+    protected void createStateGraph(CarState start, Track<?> track){
+        stateGraph = new ImplicitStateGraph(start, track, maxStates);
+    }
+
+    /**
+     * Returns true if the budget to plan this move ran out. Traversals
+     * respecting the budget call it for every node they expand, and when it
+     * returns true they stop and return the {@link #partialPath partial path}.
+     * The time is actually read every 64 calls, so every search expands at
+     * least 64 nodes.
+     * @return true if the budget ran out, false otherwise.
+     */
+    protected boolean isOutOfTime() {
+        return budgetNanos > 0 && (++expansions & 63) == 0 && System.nanoTime() - deadline > 0;
+    }
 
-        while(!positionsToCheck.isEmpty()){
-            Vector2 newPos = positionsToCheck.pop();
-            Vector2[] newPossiblePositions =
-                    getPossiblePositionsInsideRoad(CarEntity.getPossibleMoves(newPos), current.sum(newPos), track);
-            createPositionGraph(newPossiblePositions, current.sum(newPos), track);
+    /**
+     * Tells that a node was expanded, so that the one closest to the finish
+     * is known when the budget runs out. The closest node is the one with the
+     * lowest {@link AStarStrategy#movesLowerBound bound} on the moves still
+     * needed, the first expanded among equals, out of the ones the car can
+     * still stop from without crashing by braking as hard as it can. It does
+     * nothing without a budget.
+     * @param node The index of the expanded node.
+     * @param state The state of the expanded node.
+     */
+    protected void expanded(int node, CarState state) {
+        if (budgetNanos == 0) return;
+        int distance = DistanceField.of(track).distance(state.x(), state.y());
+        if (distance == DistanceField.UNREACHABLE) return;
+        int speed = Math.max(Math.abs(state.vx()), Math.abs(state.vy()));
+        int moves = AStarStrategy.movesLowerBound(distance, speed);
+        if (moves < closestMoves && brakingStates(state) != null) {
+            closest = node;
+            closestState = state;
+            closestMoves = moves;
         }
     }
 
+    /**
+     * Returns the path going to the expanded node closest to the finish, to
+     * use when the budget ran out.
+     * @param graph The graph of states.
+     * @param parents The parent of every reached node index.
+     * @param start The index of the start node.
+     * @return A stack with the state right after the start on top, empty if
+     * the car can't stop from any expanded node.
+     */
+    protected Stack<CarState> partialPath(Graph<CarState> graph, int[] parents, int start) {
+        isPartial = true;
+        if (closest == -1) return new Stack<>();
+        return findPath(graph, parents, start, closest);
+    }
 
-    private Vector2[] getPossiblePositionsInsideRoad(Vector2[] pos, Vector2 current, Track track){
-        return Arrays
-                .stream(pos)
-                .filter(x->track.isPositionInsideRoad(current.sum(x)))
-                .toArray(Vector2[]::new);
+    /**
+     * Returns the highest speed, on either axis, that a car in the state
+     * passed as parameter can reach on the track. To speed up by s the car
+     * crosses at least 1 + 2 + ... + s positions in a straight line, so s
+     * can't grow past what fits in the track.
+     * @param start The state of the car.
+     * @return The highest speed the car can reach.
+     */
+    protected int maxSpeed(CarState start) {
+        int length = Math.max(track.getWidth(), track.getHeight()) - 1;
+        int speedUp = 0;
+        while ((speedUp + 1) * (speedUp + 2) / 2 <= length) speedUp++;
+        return Math.max(Math.abs(start.vx()), Math.abs(start.vy())) + speedUp;
+    }
+
+    /**
+     * Given the parent of every reached node index, it returns the stack of
+     * states going from the node after the start one to the end one.
+     * Following the parents from the end must eventually reach the start.
+     * @param graph The graph of states.
+     * @param parents The parent of every reached node index.
+     * @param start The index of the start node.
+     * @param end The index of the end node.
+     * @return A stack with the state right after the start on top.
+     */
+    protected static Stack<CarState> findPath(Graph<CarState> graph, int[] parents,
+                                              int start, int end){
+        Stack<CarState> path = new Stack<>();
+        for (int current = end; current != start; current = parents[current])
+            path.push(graph.getNodeAtIndex(current).getLabel());
+        return path;
     }
 
     /**
-     * Given the graph, the start position and the list of position of victory,
-     * a stack of positions is returned. This stack contains all the positions
+     * Given the graph, the start state and the list of position of victory,
+     * a stack of states is returned. This stack contains all the states
      * from first to last the algorithm as taken to arrive at a position of
-     * vistory.
-     * @param graph The graph of positions.
-     * @param start The start positions.
+     * vistory. The velocity of every state is the move to do to reach it.
+     * @param graph The graph of states.
+     * @param start The start state.
      * @param victories All the positions of victory.
-     * @return A stack containing positions from the start to a victory position.
+     * @return A stack containing states from the start to a victory position.
      */
-    protected abstract Stack<Vector2> traverse(Graph<Vector2> graph, Vector2 start, List<Vector2> victories);
+    protected abstract Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories);
 }
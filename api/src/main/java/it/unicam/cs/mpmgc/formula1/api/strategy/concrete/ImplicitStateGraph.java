@@ -0,0 +1,337 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.CompressedSparseRowGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphEdge;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A read-only {@link Graph} of the states a car can reach from a start state
+ * without crashing, whose successors are generated only when asked for. A
+ * search visiting only a part of the states pays only for that part.
+ * <p>
+ * States get their index the first time they are generated, and keep it.
+ * {@link #nodeCount()}, {@link #edgeCount()}, {@link #getNodes()} and
+ * {@link #getEdges()} only see the states and the moves generated so far, so
+ * they grow while the graph is explored. Asking for the predecessors of a
+ * state, or calling {@link #freeze()}, generates the whole graph first.
+ * <p>
+ * This graph is not thread-safe: {@link #freeze()} it to share it between
+ * threads.
+ */
+public final class ImplicitStateGraph implements Graph<CarState> {
+    private final Track<?> track;
+    private final int maxStates;
+    private final LongIntHashMap indexes;
+    private final List<GraphNode<CarState>> nodes;
+    private int[] offsets;
+    private int[] degrees;
+    private int[] targets;
+    private int edgeCount;
+    private CompressedSparseRowGraph<CarState> frozen;
+
+    /**
+     * Creates the graph of the states reachable from the start state on the
+     * track passed as parameter, that never has more than the number of
+     * states passed as parameter. When there are more reachable states, the
+     * moves leading to them are left out.
+     * @param start the start state.
+     * @param track the track.
+     * @param maxStates the maximum number of states.
+     * @throws NullPointerException if the start or the track are null.
+     * @throws IllegalArgumentException if the maximum is lower than 1.
+     */
+    public ImplicitStateGraph(CarState start, Track<?> track, int maxStates) {
+        if (start == null) throw new NullPointerException("Start is null");
+        if (track == null) throw new NullPointerException("Track is null");
+        if (maxStates < 1)
+            throw new IllegalArgumentException("The maximum number of states " +
+                    "must be at least 1");
+        this.track = track;
+        this.maxStates = maxStates;
+        this.indexes = new LongIntHashMap(1024);
+        this.nodes = new ArrayList<>();
+        this.offsets = new int[1024];
+        this.degrees = new int[1024];
+        this.targets = new int[8 * 1024];
+        intern(start);
+    }
+
+    // Returns the index of the state, giving it one if it's new, or -1 if there's no room.
+    private int intern(CarState state) {
+        int index = indexes.get(state.pack(), -1);
+        if (index != -1) return index;
+        if (nodes.size() == maxStates) return -1;
+
+        index = nodes.size();
+        indexes.put(state.pack(), index);
+        nodes.add(new GraphNode<>(state));
+        if (index == offsets.length) {
+            offsets = Arrays.copyOf(offsets, index * 2);
+            degrees = Arrays.copyOf(degrees, index * 2);
+        }
+        offsets[index] = -1;
+        return index;
+    }
+
+    // Generates the successors of the state at the index, if not done yet.
+    private void expand(int index) {
+        if (offsets[index] != -1) return;
+        CarState current = nodes.get(index).getLabel();
+        int offset = edgeCount;
+        for (Vector2 move : CarEntity.getPossibleMoves(current.velocity())) {
+            CarState next = current.move(move);
+            if (next.equals(current) || track.hasEntityCrashed(current.position(), next.position()))
+                continue;
+            int nextIndex = intern(next);
+            if (nextIndex == -1) continue;
+            if (edgeCount == targets.length) targets = Arrays.copyOf(targets, edgeCount * 2);
+            targets[edgeCount++] = nextIndex;
+        }
+        offsets[index] = offset;
+        degrees[index] = edgeCount - offset;
+    }
+
+    /*
+     * Generates the whole graph, and keeps it in its compact form to answer
+     * about the predecessors.
+     */
+    private CompressedSparseRowGraph<CarState> materialize() {
+        if (frozen != null) return frozen;
+        for (int i = 0; i < nodes.size(); i++) expand(i);
+
+        CompressedSparseRowGraph.Builder<CarState> builder =
+                new CompressedSparseRowGraph.Builder<>(nodes.size(), edgeCount);
+        builder.addNodes(nodes);
+        for (int i = 0; i < nodes.size(); i++)
+            for (int j = offsets[i]; j < offsets[i] + degrees[i]; j++)
+                builder.addEdge(i, targets[j]);
+        frozen = builder.build();
+        return frozen;
+    }
+
+    @Override
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    @Override
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public Set<GraphNode<CarState>> getNodes() {
+        return new HashSet<>(nodes);
+    }
+
+    @Override
+    public boolean addNode(GraphNode<CarState> node) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean removeNode(GraphNode<CarState> node) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean containsNode(GraphNode<CarState> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        return indexes.containsKey(node.getLabel().pack());
+    }
+
+    @Override
+    public GraphNode<CarState> getNodeOf(CarState label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        int index = indexes.get(label.pack(), -1);
+        return index == -1 ? null : nodes.get(index);
+    }
+
+    @Override
+    public int getNodeIndexOf(CarState label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        int index = indexes.get(label.pack(), -1);
+        if (index == -1)
+            throw new IllegalArgumentException("The node of the label passed as" +
+                    " parameter doesn't exist");
+        return index;
+    }
+
+    @Override
+    public GraphNode<CarState> getNodeAtIndex(int i) {
+        return nodes.get(checkIndex(i));
+    }
+
+    @Override
+    public Set<GraphNode<CarState>> getAdjacentNodesOf(GraphNode<CarState> node) {
+        Set<GraphNode<CarState>> adjacentNodes = new HashSet<>();
+        forEachSuccessor(indexOfExisting(node), j -> adjacentNodes.add(nodes.get(j)));
+        return adjacentNodes;
+    }
+
+    @Override
+    public Set<GraphNode<CarState>> getPredecessorNodesOf(GraphNode<CarState> node) {
+        return materialize().getPredecessorNodesOf(node);
+    }
+
+    @Override
+    public void forEachSuccessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        expand(checkIndex(nodeIndex));
+        int offset = offsets[nodeIndex];
+        for (int j = offset; j < offset + degrees[nodeIndex]; j++)
+            action.accept(targets[j]);
+    }
+
+    @Override
+    public void forEachSuccessor(GraphNode<CarState> node, Consumer<GraphNode<CarState>> action) {
+        int nodeIndex = indexOfExisting(node);
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        forEachSuccessor(nodeIndex, j -> action.accept(nodes.get(j)));
+    }
+
+    @Override
+    public void forEachPredecessor(int nodeIndex, IntConsumer action) {
+        materialize().forEachPredecessor(nodeIndex, action);
+    }
+
+    @Override
+    public void forEachPredecessor(GraphNode<CarState> node, Consumer<GraphNode<CarState>> action) {
+        materialize().forEachPredecessor(node, action);
+    }
+
+    @Override
+    public Set<GraphEdge<CarState>> getEdges() {
+        Set<GraphEdge<CarState>> edgeSet = new HashSet<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            if (offsets[i] == -1) continue;
+            for (int j = offsets[i]; j < offsets[i] + degrees[i]; j++)
+                edgeSet.add(new GraphEdge<>(nodes.get(i), nodes.get(targets[j]), true));
+        }
+        return edgeSet;
+    }
+
+    @Override
+    public boolean addEdge(GraphEdge<CarState> edge) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean removeEdge(GraphEdge<CarState> edge) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean containsEdge(GraphEdge<CarState> edge) {
+        if (edge == null)
+            throw new NullPointerException("Edge is null");
+        int index1 = indexes.get(edge.getNode1().getLabel().pack(), -1);
+        int index2 = indexes.get(edge.getNode2().getLabel().pack(), -1);
+        if (index1 == -1 || index2 == -1)
+            throw new IllegalArgumentException(
+                    "One of the nodes the edge is linked to doesn't exist.");
+        expand(index1);
+        for (int j = offsets[index1]; j < offsets[index1] + degrees[index1]; j++)
+            if (targets[j] == index2) return true;
+        return false;
+    }
+
+    @Override
+    public int outDegree(GraphNode<CarState> node) {
+        int nodeIndex = indexOfExisting(node);
+        expand(nodeIndex);
+        return degrees[nodeIndex];
+    }
+
+    @Override
+    public int inDegree(GraphNode<CarState> node) {
+        return materialize().inDegree(node);
+    }
+
+    @Override
+    public Set<GraphEdge<CarState>> getEdgesOf(GraphNode<CarState> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphEdge<CarState>> edgesOf = new HashSet<>();
+        forEachSuccessor(nodeIndex, j -> edgesOf.add(new GraphEdge<>(nodes.get(nodeIndex), nodes.get(j), true)));
+        return edgesOf;
+    }
+
+    @Override
+    public Set<GraphEdge<CarState>> getIngoingEdgesOf(GraphNode<CarState> node) {
+        return materialize().getIngoingEdgesOf(node);
+    }
+
+    /**
+     * Generates the whole graph and returns it in its compact read-only form,
+     * where every state keeps its index.
+     *
+     * @return the whole graph, read-only.
+     */
+    @Override
+    public Graph<CarState> freeze() {
+        return materialize();
+    }
+
+    private int checkIndex(int i) {
+        if (i > nodes.size() - 1 || i < 0)
+            throw new IndexOutOfBoundsException("The index goes beyond the " +
+                    "limit of [0, node count-1]");
+        return i;
+    }
+
+    private int indexOfExisting(GraphNode<CarState> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        int index = indexes.get(node.getLabel().pack(), -1);
+        if (index == -1)
+            throw new IllegalArgumentException("The node doesn't exist");
+        return index;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import java.util.Arrays;
+
+/*
+ * Binary min-heap of node indexes, each one with a long key. It remembers
+ * where every node is inside the heap, so the key of a node can be decreased
+ * without searching it and without creating any object. The capacity is only
+ * a hint: it grows when a bigger node index is pushed.
+ */
+final class IntMinHeap {
+    private int[] heap;
+    private long[] keys;
+    private int[] positions;
+    private int size;
+
+    IntMinHeap(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("The capacity is negative");
+        this.heap = new int[capacity];
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int node) {
+        return node < positions.length && positions[node] != -1;
+    }
+
+    /*
+     * Adds the node with the key passed as parameter, or lowers its key if it
+     * is already inside with a bigger one. A bigger key is ignored.
+     */
+    void push(int node, long key) {
+        if (node >= positions.length) grow(node);
+        int position = positions[node];
+        if (position == -1) {
+            position = size++;
+            heap[position] = node;
+            positions[node] = position;
+        } else if (key >= keys[node]) return;
+        keys[node] = key;
+        siftUp(position);
+    }
+
+    // Sets the key of the node, adding it if it's not inside.
+    void update(int node, long key) {
+        int position = node < positions.length ? positions[node] : -1;
+        if (position == -1) {
+            push(node, key);
+            return;
+        }
+        keys[node] = key;
+        siftUp(position);
+        siftDown(positions[node]);
+    }
+
+    // Removes the node, if it's inside.
+    void remove(int node) {
+        if (node >= positions.length) return;
+        int position = positions[node];
+        if (position == -1) return;
+        positions[node] = -1;
+        if (--size == position) return;
+        int last = heap[size];
+        move(last, position);
+        siftUp(position);
+        siftDown(positions[last]);
+    }
+
+    // Returns the node with the lowest key without removing it.
+    int peek() {
+        if (size == 0)
+            throw new IllegalStateException("The heap is empty");
+        return heap[0];
+    }
+
+    long peekKey() {
+        return keys[peek()];
+    }
+
+    // Removes and returns the node with the lowest key.
+    int poll() {
+        if (size == 0)
+            throw new IllegalStateException("The heap is empty");
+        int min = heap[0];
+        positions[min] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void grow(int node) {
+        int length = positions.length;
+        int newLength = Math.max(node + 1, length * 2);
+        positions = Arrays.copyOf(positions, newLength);
+        Arrays.fill(positions, length, newLength, -1);
+        keys = Arrays.copyOf(keys, newLength);
+        heap = Arrays.copyOf(heap, newLength);
+    }
+
+    private void siftUp(int position) {
+        int node = heap[position];
+        long key = keys[node];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= key) break;
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(node, position);
+    }
+
+    private void siftDown(int position) {
+        int node = heap[position];
+        long key = keys[node];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) child++;
+            if (key <= keys[heap[child]]) break;
+            move(heap[child], position);
+            position = child;
+        }
+        move(node, position);
+    }
+
+    private void move(int node, int position) {
+        heap[position] = node;
+        positions[node] = position;
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.strategy.BatchStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.RoadGrid;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackElement;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * A Monte Carlo Strategy decides every move with a Monte Carlo tree search:
+ * the tree of the moves from the current state is grown one state at a time,
+ * choosing where with the UCT formula, and every new state is judged by
+ * racing from it with random moves. Every worker thread of the pool grows
+ * its own tree, and the move tried the most by all of them is made.
+ * <p>
+ * The search runs for a fixed number of iterations, or a fixed time, at every
+ * move. The crashes are checked on a {@link RoadGrid}, so racing creates no
+ * object. The other cars are expected to stay where they are, so the moves
+ * ending on them are never tried.
+ * <p>
+ * The strategy keeps nothing about the cars between the moves, so a single
+ * instance can be followed by many cars, and then the moves of all of them
+ * are searched at the same time, every worker taking turns between their trees
+ * so that a time budget is shared fairly.
+ */
+public class MonteCarloStrategy implements BatchStrategy {
+    /**
+     * The number of iterations of every search, when not specified.
+     */
+    public static final int DEFAULT_ITERATIONS = 4096;
+
+    private static final double EXPLORATION = Math.sqrt(2) / 2;
+    // The longest race with random moves judging a state.
+    private static final int ROLLOUT_DEPTH = 64;
+    private static final int[] DX = {-1, 0, 1, -1, 0, 1, -1, 0, 1};
+    private static final int[] DY = {-1, -1, -1, 0, 0, 0, 1, 1, 1};
+
+    private final ForkJoinPool pool;
+    private final int iterations;
+    private final long budgetNanos;
+    private final SplittableRandom random;
+
+    public MonteCarloStrategy() {
+        this(DEFAULT_ITERATIONS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates the strategy drawing the random moves of the races from the
+     * generator passed as parameter, so that the same seed gives the same
+     * moves.
+     * @param random the generator of the random moves.
+     * @throws NullPointerException if the generator is null.
+     */
+    public MonteCarloStrategy(RandomGenerator random) {
+        this(DEFAULT_ITERATIONS, ForkJoinPool.commonPool(), random);
+    }
+
+    /**
+     * Creates the strategy doing the number of iterations passed as parameter
+     * at every move, split between the threads of the pool.
+     * @param iterations the number of iterations of every search.
+     * @param pool the pool running the search.
+     * @throws NullPointerException if the pool is null.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public MonteCarloStrategy(int iterations, ForkJoinPool pool) {
+        this(iterations, pool, new SplittableRandom());
+    }
+
+    /**
+     * Creates the strategy doing the number of iterations passed as parameter
+     * at every move, split between the threads of the pool, and drawing the
+     * random moves of the races from the generator passed as parameter.
+     * @param iterations the number of iterations of every search.
+     * @param pool the pool running the search.
+     * @param random the generator of the random moves.
+     * @throws NullPointerException if the pool or the generator is null.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public MonteCarloStrategy(int iterations, ForkJoinPool pool, RandomGenerator random) {
+        this(pool, iterations, 0, random);
+        if (iterations < 1)
+            throw new IllegalArgumentException("The number of iterations " +
+                    "must be at least 1");
+    }
+
+    /**
+     * Creates the strategy searching for the time passed as parameter at
+     * every move, on every thread of the pool.
+     * @param budget the time spent searching every move.
+     * @param pool the pool running the search.
+     * @throws NullPointerException if the budget or the pool is null.
+     * @throws IllegalArgumentException if the budget isn't positive.
+     */
+    public MonteCarloStrategy(Duration budget, ForkJoinPool pool) {
+        this(pool, 0, toNanos(budget), new SplittableRandom());
+    }
+
+    private MonteCarloStrategy(ForkJoinPool pool, int iterations, long budgetNanos, RandomGenerator random) {
+        if (pool == null) throw new NullPointerException("Pool is null");
+        if (random == null) throw new NullPointerException("Random is null");
+        this.pool = pool;
+        this.iterations = iterations;
+        this.budgetNanos = budgetNanos;
+        // Every tree splits its own generator from this one.
+        this.random = new SplittableRandom(random.nextLong());
+    }
+
+    private static long toNanos(Duration budget) {
+        if (budget == null) throw new NullPointerException("Budget is null");
+        if (budget.isNegative() || budget.isZero())
+            throw new IllegalArgumentException("The budget must be positive");
+        return budget.toNanos();
+    }
+
+    @Override
+    public Vector2 decideNextMove(Vector2[] possiblePositions, Entity thisEntity, SimulationInfo sim) {
+        return decide(List.of(thisEntity), List.<Vector2[]>of(possiblePositions), sim)[0];
+    }
+
+    /**
+     * Searches the moves of every entity at the same time on the pool, with
+     * the track and the positions of the cars read only once.
+     */
+    @Override
+    public Vector2[] decideNextMoves(List<? extends Entity> entities, SimulationInfo sim) {
+        List<Vector2[]> possibleMoves = new ArrayList<>();
+        for (Entity entity : entities) possibleMoves.add(CarEntity.getPossibleMoves(entity.getAcceleration()));
+        return decide(entities, possibleMoves, sim);
+    }
+
+    private Vector2[] decide(List<? extends Entity> entities, List<Vector2[]> possibleMoves, SimulationInfo sim) {
+        int[][] visits = rootVisits(entities, possibleMoves, sim);
+        Vector2[] decided = new Vector2[entities.size()];
+        for (int i = 0; i < entities.size(); i++)
+            decided[i] = mostVisited(possibleMoves.get(i), visits[i], entities.get(i));
+        return decided;
+    }
+
+    /*
+     * The visits of every possible move of every entity, summed over the trees
+     * of all the workers. Every worker grows a tree for every entity, taking
+     * turns between them, so with a time budget every entity gets its share
+     * of it instead of the first ones taking all of it.
+     */
+    int[][] rootVisits(List<? extends Entity> entities, List<Vector2[]> possibleMoves, SimulationInfo sim) {
+        Track<?> track = sim.track();
+        Race shared = new Race(track, blockedPositions(track, sim.entities()));
+        List<CarState> roots = new ArrayList<>();
+        List<Race> races = new ArrayList<>();
+        for (Entity entity : entities) {
+            CarState current = new CarState(entity.getPosition(), entity.getAcceleration());
+            roots.add(current);
+            races.add(shared.from(current));
+        }
+
+        int workers = pool.getParallelism();
+        int perWorker = (iterations + workers - 1) / workers;
+        long deadline = System.nanoTime() + budgetNanos;
+        List<ForkJoinTask<int[][]>> tasks = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            Tree[] trees = new Tree[entities.size()];
+            for (int i = 0; i < trees.length; i++)
+                trees[i] = new Tree(races.get(i), roots.get(i), possibleMoves.get(i), random.split());
+            tasks.add(pool.submit(() -> search(trees, perWorker, deadline)));
+        }
+
+        int[][] visits = new int[entities.size()][];
+        for (int i = 0; i < visits.length; i++) visits[i] = new int[possibleMoves.get(i).length];
+        for (ForkJoinTask<int[][]> task : tasks) {
+            int[][] treeVisits = task.join();
+            for (int i = 0; i < visits.length; i++)
+                for (int move = 0; move < visits[i].length; move++) visits[i][move] += treeVisits[i][move];
+        }
+        return visits;
+    }
+
+    // Grows the trees one iteration each at a time, for the iterations or until the deadline.
+    private static int[][] search(Tree[] trees, int iterations, long deadline) {
+        for (int i = 0; iterations > 0 ? i < iterations : i == 0 || System.nanoTime() - deadline < 0; i++)
+            for (Tree tree : trees) tree.iterate();
+        int[][] visits = new int[trees.length][];
+        for (int i = 0; i < trees.length; i++) visits[i] = trees[i].rootVisits();
+        return visits;
+    }
+
+    private static Vector2 mostVisited(Vector2[] possibleMoves, int[] visits, Entity entity) {
+        int best = -1;
+        for (int i = 0; i < visits.length; i++)
+            if (visits[i] > 0 && (best == -1 || visits[i] > visits[best])) best = i;
+        // Every move crashes.
+        if (best == -1) return entity.getAcceleration();
+        return possibleMoves[best];
+    }
+
+    private static boolean[] blockedPositions(Track<?> track, List<Entity> entities) {
+        int width = track.getWidth();
+        boolean[] blocked = new boolean[width * track.getHeight()];
+        for (Entity entity : entities) {
+            Vector2 pos = entity.getPosition();
+            if (!entity.isAlive() || !track.isPositionInsideRoad(pos)) continue;
+            blocked[pos.y() * width + pos.x()] = true;
+        }
+        return blocked;
+    }
+
+    /*
+     * What every tree of a round shares: the track, read-only, and the
+     * positions taken by the cars, except the one of the car moving.
+     */
+    private static final class Race {
+        private final RoadGrid grid;
+        private final DistanceField distanceField;
+        private final GoalSet goals;
+        private final boolean[] blocked;
+        private final int width;
+        private final int own;
+
+        private Race(Track<?> track, boolean[] blocked) {
+            this.grid = RoadGrid.of(track);
+            this.distanceField = DistanceField.of(track);
+            this.goals = new GoalSet(track.getAllPositionsOfElement(TrackElement.VICTORY));
+            this.blocked = blocked;
+            this.width = track.getWidth();
+            this.own = -1;
+        }
+
+        private Race(Race shared, int own) {
+            this.grid = shared.grid;
+            this.distanceField = shared.distanceField;
+            this.goals = shared.goals;
+            this.blocked = shared.blocked;
+            this.width = shared.width;
+            this.own = own;
+        }
+
+        // The same race for the car in the state passed as parameter.
+        private Race from(CarState state) {
+            return new Race(this, grid.isInsideRoad(state.x(), state.y()) ? state.y() * width + state.x() : -1);
+        }
+
+        private boolean canMove(int x, int y, int vx, int vy) {
+            if (grid.hasCrashed(x, y, x + vx, y + vy)) return false;
+            int cell = (y + vy) * width + x + vx;
+            return cell == own || !blocked[cell];
+        }
+
+        // The lowest number of moves to a victory, or -1 if there's none.
+        private int movesLeft(int x, int y, int vx, int vy) {
+            int distance = distanceField.distance(x, y);
+            if (distance == DistanceField.UNREACHABLE) return -1;
+            return AStarStrategy.movesLowerBound(distance, Math.max(Math.abs(vx), Math.abs(vy)));
+        }
+    }
+
+    /*
+     * The tree of a single worker, kept in flat arrays that grow with it. The
+     * children of a state are all its moves that don't crash, stored next to
+     * each other. A state is judged by how close its result is to the best
+     * possible one: the lowest number of moves from the root divided by the
+     * moves it took, or would take at least, to win. Crashing is worth zero.
+     */
+    private static final class Tree {
+        private final Race race;
+        private final Vector2[] rootMoves;
+        private final SplittableRandom random;
+        private final double bestMoves;
+        private long[] states;
+        private int[] visits;
+        private double[] totals;
+        private int[] firstChild;
+        private int[] childCount;
+        private int[] moves;
+        private int size;
+        private int[] path = new int[16];
+        private final int[] legal = new int[9];
+
+        private Tree(Race race, CarState root, Vector2[] rootMoves, SplittableRandom random) {
+            this.race = race;
+            this.rootMoves = rootMoves;
+            this.random = random;
+            int movesLeft = race.movesLeft(root.x(), root.y(), root.vx(), root.vy());
+            this.bestMoves = Math.max(1, movesLeft);
+            this.states = new long[64];
+            this.visits = new int[64];
+            this.totals = new double[64];
+            this.firstChild = new int[64];
+            this.childCount = new int[64];
+            this.moves = new int[64];
+            add(root.pack(), -1);
+        }
+
+        // Returns the visits of every move of the root.
+        private int[] rootVisits() {
+            int[] rootVisits = new int[rootMoves.length];
+            for (int child = firstChild[0]; child < firstChild[0] + childCount[0]; child++)
+                rootVisits[moves[child]] = visits[child];
+            return rootVisits;
+        }
+
+        private void iterate() {
+            int depth = 0;
+            int node = 0;
+            path[0] = 0;
+            double reward;
+            while (true) {
+                CarState state = CarState.unpack(states[node]);
+                if (race.goals.contains(state.x(), state.y())) {
+                    reward = reward(depth, 0);
+                    break;
+                }
+                if (firstChild[node] == -1) expand(node, state);
+                if (childCount[node] == 0) {
+                    reward = 0;
+                    break;
+                }
+                node = select(node);
+                if (++depth == path.length) path = Arrays.copyOf(path, depth * 2);
+                path[depth] = node;
+                if (visits[node] == 0) {
+                    reward = rollout(CarState.unpack(states[node]), depth);
+                    break;
+                }
+            }
+            for (int i = 0; i <= depth; i++) {
+                visits[path[i]]++;
+                totals[path[i]] += reward;
+            }
+        }
+
+        private void expand(int node, CarState state) {
+            firstChild[node] = size;
+            int count = 0;
+            for (int move = 0; move < (node == 0 ? rootMoves.length : DX.length); move++) {
+                int vx = node == 0 ? rootMoves[move].x() : state.vx() + DX[move];
+                int vy = node == 0 ? rootMoves[move].y() : state.vy() + DY[move];
+                if (!race.canMove(state.x(), state.y(), vx, vy)) continue;
+                add(CarState.pack(state.x() + vx, state.y() + vy, vx, vy), move);
+                count++;
+            }
+            childCount[node] = count;
+        }
+
+        private void add(long state, int move) {
+            if (size == states.length) {
+                int length = size * 2;
+                states = Arrays.copyOf(states, length);
+                visits = Arrays.copyOf(visits, length);
+                totals = Arrays.copyOf(totals, length);
+                firstChild = Arrays.copyOf(firstChild, length);
+                childCount = Arrays.copyOf(childCount, length);
+                moves = Arrays.copyOf(moves, length);
+            }
+            states[size] = state;
+            firstChild[size] = -1;
+            moves[size] = move;
+            size++;
+        }
+
+        // The child with the highest UCT value, the first not visited if any.
+        private int select(int node) {
+            double logVisits = Math.log(visits[node]);
+            int best = -1;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            int start = firstChild[node];
+            int offset = random.nextInt(childCount[node]);
+            for (int i = 0; i < childCount[node]; i++) {
+                int child = start + (i + offset) % childCount[node];
+                if (visits[child] == 0) return child;
+                double value = totals[child] / visits[child]
+                        + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+                if (value > bestValue) {
+                    best = child;
+                    bestValue = value;
+                }
+            }
+            return best;
+        }
+
+        /*
+         * Races from the state with random moves that don't crash, half of
+         * the times choosing the one closest to a victory.
+         */
+        private double rollout(CarState state, int depth) {
+            int x = state.x();
+            int y = state.y();
+            int vx = state.vx();
+            int vy = state.vy();
+            for (int step = 0; step < ROLLOUT_DEPTH; step++) {
+                if (race.goals.contains(x, y)) return reward(depth, 0);
+                int count = 0;
+                int greedy = -1;
+                int fewestMoves = Integer.MAX_VALUE;
+                for (int move = 0; move < DX.length; move++) {
+                    int nextVx = vx + DX[move];
+                    int nextVy = vy + DY[move];
+                    if (!race.canMove(x, y, nextVx, nextVy)) continue;
+                    legal[count++] = move;
+                    int movesLeft = race.movesLeft(x + nextVx, y + nextVy, nextVx, nextVy);
+                    if (movesLeft >= 0 && movesLeft < fewestMoves) {
+                        greedy = move;
+                        fewestMoves = movesLeft;
+                    }
+                }
+                if (count == 0) return 0;
+                int move = greedy != -1 && random.nextBoolean() ? greedy : legal[random.nextInt(count)];
+                vx += DX[move];
+                vy += DY[move];
+                x += vx;
+                y += vy;
+                depth++;
+            }
+            int movesLeft = race.movesLeft(x, y, vx, vy);
+            return movesLeft < 0 ? 0 : reward(depth, movesLeft);
+        }
+
+        private double reward(int depth, int movesLeft) {
+            return Math.min(1, bestMoves / (depth + movesLeft));
+        }
+    }
+}
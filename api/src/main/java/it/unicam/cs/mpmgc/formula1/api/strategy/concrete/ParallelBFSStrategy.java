@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.track.RoadGrid;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Parallel BFS Strategy is a {@link GraphBasedStrategy} that traverses the
+ * states with a BFS algorithm, expanding every level of the search with many
+ * threads at once. The frontier is split in chunks handled by fork/join
+ * tasks, that generate the successors of their states themselves and claim
+ * them in a bitmap shared by all threads, with one bit for every position and
+ * velocity the car can {@link #maxSpeed reach}: only the thread setting the
+ * bit of a state puts it in the next level, so every state is expanded only
+ * once. Like the BFS it finds the victory reachable with the fewest moves.
+ * <p>
+ * The states are not taken from the graph of the strategy, so no thread ever
+ * waits for a graph built by a single one, and they are kept packed in
+ * arrays, so expanding a level creates no object for them.
+ */
+public class ParallelBFSStrategy extends GraphBasedStrategy {
+    // Frontier nodes expanded by a single task without splitting it further.
+    private static final int CHUNK = 512;
+
+    private final ForkJoinPool pool;
+
+    public ParallelBFSStrategy() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates the strategy expanding the levels on the pool passed as
+     * parameter.
+     * @param pool the pool running the expansion of the levels.
+     */
+    public ParallelBFSStrategy(ForkJoinPool pool) {
+        this(pool, DEFAULT_MAX_STATES);
+    }
+
+    /**
+     * Creates the strategy expanding the levels on the pool passed as
+     * parameter, with a graph that never has more than the number of states
+     * passed as parameter.
+     * @param pool the pool running the expansion of the levels.
+     * @param maxStates the maximum number of states of the graph.
+     * @throws IllegalArgumentException if the number is lower than 1.
+     */
+    public ParallelBFSStrategy(ForkJoinPool pool, int maxStates) {
+        super(maxStates);
+        if (pool == null) throw new NullPointerException("Pool is null");
+        this.pool = pool;
+    }
+
+
+    @Override
+    protected Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories) {
+        Search search = new Search(track, new GoalSet(victories), maxSpeed(start));
+        if (search.goals.contains(start)) return new Stack<>();
+        search.claim(start.x(), start.y(), start.vx(), start.vy());
+        long[] labels = {start.pack()};
+        int[] parents = {0};
+        int nodeCount = 1;
+
+        Level level = new Level(new long[]{start.pack()}, new int[]{0}, 1, -1);
+        int[] nodes = {0};
+        while (level.size > 0) {
+            level = pool.invoke(new Expand(search, level, nodes, 0, level.size));
+            // The nodes are numbered by the calling thread, once the level is joined.
+            int size = Math.min(level.size, maxStates - nodeCount);
+            if (nodeCount + size > labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(labels.length * 2, nodeCount + size));
+                parents = Arrays.copyOf(parents, labels.length);
+            }
+            nodes = new int[size];
+            for (int i = 0; i < size; i++) {
+                nodes[i] = nodeCount++;
+                labels[nodes[i]] = level.states[i];
+                parents[nodes[i]] = level.parents[i];
+            }
+            if (level.goal != -1 && level.goal < size) {
+                Stack<CarState> path = new Stack<>();
+                for (int current = nodes[level.goal]; current != 0; current = parents[current])
+                    path.push(CarState.unpack(labels[current]));
+                return path;
+            }
+            if (size < level.size) return null;
+        }
+        return null;
+    }
+
+    /*
+     * What every task shares: the track to check the moves and the bitmap of
+     * the states reached so far. The bitmap has a page for every position,
+     * with a bit for every velocity, added the first time a state on it is
+     * reached, so it only takes the memory of the positions the search goes
+     * through.
+     */
+    private static final class Search {
+        private final RoadGrid grid;
+        private final GoalSet goals;
+        private final int width;
+        private final int maxSpeed;
+        private final int velocities;
+        private final AtomicReferenceArray<AtomicLongArray> reached;
+
+        private Search(Track<?> track, GoalSet goals, int maxSpeed) {
+            this.grid = RoadGrid.of(track);
+            this.goals = goals;
+            this.width = track.getWidth();
+            this.maxSpeed = maxSpeed;
+            this.velocities = (2 * maxSpeed + 1) * (2 * maxSpeed + 1);
+            this.reached = new AtomicReferenceArray<>(width * track.getHeight());
+        }
+
+        /*
+         * Returns true if the calling thread is the first setting the bit of
+         * the state, which must be on a position of the track and no faster
+         * than the maximum speed.
+         */
+        private boolean claim(int x, int y, int vx, int vy) {
+            int cell = y * width + x;
+            AtomicLongArray page = reached.get(cell);
+            if (page == null) {
+                reached.compareAndSet(cell, null, new AtomicLongArray((velocities + 63) >>> 6));
+                page = reached.get(cell);
+            }
+            int bit = (vx + maxSpeed) * (2 * maxSpeed + 1) + vy + maxSpeed;
+            long mask = 1L << bit;
+            while (true) {
+                long word = page.get(bit >>> 6);
+                if ((word & mask) != 0) return false;
+                if (page.compareAndSet(bit >>> 6, word, word | mask)) return true;
+            }
+        }
+    }
+
+    /*
+     * A level of the search: the packed states in it with the nodes of their
+     * parents, and the index in the level of the first victory state in it,
+     * or -1 if there's none.
+     */
+    private record Level(long[] states, int[] parents, int size, int goal) {
+        private static Level merge(Level left, Level right) {
+            int size = left.size + right.size;
+            long[] states = Arrays.copyOf(left.states, size);
+            int[] parents = Arrays.copyOf(left.parents, size);
+            System.arraycopy(right.states, 0, states, left.size, right.size);
+            System.arraycopy(right.parents, 0, parents, left.size, right.size);
+            int goal = left.goal != -1 ? left.goal : right.goal == -1 ? -1 : left.size + right.goal;
+            return new Level(states, parents, size, goal);
+        }
+    }
+
+    // Expands the frontier states in [from, to), whose nodes are given, into the next level.
+    @SuppressWarnings("serial") // The tasks are never serialized.
+    private static final class Expand extends RecursiveTask<Level> {
+        private final Search search;
+        private final Level frontier;
+        private final int[] nodes;
+        private final int from;
+        private final int to;
+
+        private Expand(Search search, Level frontier, int[] nodes, int from, int to) {
+            this.search = search;
+            this.frontier = frontier;
+            this.nodes = nodes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Level compute() {
+            if (to - from > CHUNK) {
+                int middle = (from + to) >>> 1;
+                Expand left = new Expand(search, frontier, nodes, from, middle);
+                left.fork();
+                Level right = new Expand(search, frontier, nodes, middle, to).compute();
+                return Level.merge(left.join(), right);
+            }
+
+            int capacity = (to - from) * 4;
+            long[] states = new long[capacity];
+            int[] parents = new int[capacity];
+            int size = 0;
+            int goal = -1;
+            for (int i = from; i < to; i++) {
+                long current = frontier.states[i];
+                int cx = (short) (current >>> 48), cy = (short) (current >>> 32);
+                int cvx = (short) (current >>> 16), cvy = (short) current;
+                for (int ax = -1; ax <= 1; ax++) {
+                    for (int ay = -1; ay <= 1; ay++) {
+                        int vx = cvx + ax, vy = cvy + ay;
+                        // Staying still isn't a move.
+                        if (vx == 0 && vy == 0 && cvx == 0 && cvy == 0) continue;
+                        if (Math.abs(vx) > search.maxSpeed || Math.abs(vy) > search.maxSpeed) continue;
+                        int x = cx + vx, y = cy + vy;
+                        if (search.grid.hasCrashed(cx, cy, x, y) || !search.claim(x, y, vx, vy)) continue;
+                        if (size == states.length) {
+                            states = Arrays.copyOf(states, size * 2);
+                            parents = Arrays.copyOf(parents, size * 2);
+                        }
+                        if (goal == -1 && search.goals.contains(x, y)) goal = size;
+                        states[size] = CarState.pack(x, y, vx, vy);
+                        parents[size++] = nodes[i];
+                    }
+                }
+            }
+            return new Level(states, parents, size, goal);
+        }
+    }
+}
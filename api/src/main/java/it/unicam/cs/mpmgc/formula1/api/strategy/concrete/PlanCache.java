@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares the plans found by the strategies between every car racing on the
+ * same track. A plan only depends on the track, the state of the car and the
+ * kind of strategy, so cars starting from the same state with the same kind of
+ * strategy use the very same plan, computed only once even when asked by many
+ * threads at the same time.
+ */
+public final class PlanCache {
+    private static final Map<Track<?>, Map<Key, CompletableFuture<List<CarState>>>> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private PlanCache() {}
+
+    private record Key(CarState start, Object kind) {}
+
+    /**
+     * Returns the plan of the strategy kind passed as parameter going from the
+     * start state to a victory of the track. If it's not known yet, it's
+     * computed with the planner. Who asks for a plan that is being computed
+     * by another thread waits for it instead of computing it again.
+     * @param track the track.
+     * @param start the start state.
+     * @param kind the kind of strategy, any value that is equal for
+     *             strategies finding the same plans.
+     * @param planner computes the plan, as the list of states from the one
+     *                right after the start to the one on the victory, or null
+     *                if there's no plan.
+     * @return the plan, that can't be modified, or null if there's no plan.
+     */
+    public static List<CarState> getPlan(Track<?> track, CarState start, Object kind,
+                                         Supplier<List<CarState>> planner) {
+        if (track == null) throw new NullPointerException("Track is null");
+        if (start == null) throw new NullPointerException("Start is null");
+        if (kind == null) throw new NullPointerException("Kind is null");
+        if (planner == null) throw new NullPointerException("Planner is null");
+
+        Map<Key, CompletableFuture<List<CarState>>> plans =
+                CACHE.computeIfAbsent(track, t -> new ConcurrentHashMap<>());
+        Key key = new Key(start, kind);
+        CompletableFuture<List<CarState>> plan = new CompletableFuture<>();
+        CompletableFuture<List<CarState>> existing = plans.putIfAbsent(key, plan);
+        if (existing != null) return existing.join();
+
+        try {
+            List<CarState> computed = planner.get();
+            plan.complete(computed == null ? null : List.copyOf(computed));
+        } catch (RuntimeException | Error e) {
+            // Who comes next tries again.
+            plans.remove(key, plan);
+            plan.completeExceptionally(e);
+            throw e;
+        }
+        return plan.join();
+    }
+}
@@ -29,13 +29,37 @@ import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
 import it.unicam.cs.mpmgc.formula1.api.strategy.Strategy;
 import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
 
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
 /**
  * Makes random decisions until it dies or wins.
  * Just for testing purposes.
+ * <p>
+ * Every instance draws from its own generator, so strategies running on
+ * different threads never wait for each other, and a race can be replayed by
+ * giving the strategies generators split from the same seed.
  */
 public class RandomStrategy implements Strategy {
+    private final RandomGenerator random;
+
+    public RandomStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Creates the strategy drawing its decisions from the generator passed
+     * as parameter. The generator shouldn't be shared with other threads.
+     * @param random the generator of the decisions.
+     * @throws NullPointerException if the generator is null.
+     */
+    public RandomStrategy(RandomGenerator random) {
+        if (random == null) throw new NullPointerException("Random is null");
+        this.random = random;
+    }
+
     @Override
     public Vector2 decideNextMove(Vector2[] possiblePositions, Entity thisEntity, SimulationInfo sim) {
-        return possiblePositions[(int) (Math.random() * possiblePositions.length)];
+        return possiblePositions[random.nextInt(possiblePositions.length)];
     }
 }
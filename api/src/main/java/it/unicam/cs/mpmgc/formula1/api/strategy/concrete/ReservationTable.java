@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/*
+ * The space-time cells claimed by the cars following a CooperativeStrategy
+ * on the same track: a car reserving (x, y, tick) will be on that position
+ * after its move number tick. The cells are kept in a primitive hash, so
+ * checking them costs no more than a lookup even with many cars.
+ *
+ * The table isn't thread safe: the cars lock it while they plan, so every
+ * car plans against the complete plans of the cars that came before.
+ */
+final class ReservationTable {
+    private static final Map<Track<?>, ReservationTable> TABLES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final LongIntHashMap cells = new LongIntHashMap(1024);
+
+    private ReservationTable() {}
+
+    static ReservationTable of(Track<?> track) {
+        if (track == null) throw new NullPointerException("Track is null");
+        return TABLES.computeIfAbsent(track, t -> new ReservationTable());
+    }
+
+    // The positions of a state fit in 16 bits, so the tick gets the upper half.
+    static long cell(int x, int y, int tick) {
+        return (long) tick << 32 | (x & 0xFFFFL) << 16 | (y & 0xFFFFL);
+    }
+
+    boolean isReserved(long cell) {
+        return cells.containsKey(cell);
+    }
+
+    // Reserves the cell, unless it's reserved by someone else. Returns true if the owner has it.
+    boolean reserve(long cell, int owner) {
+        int current = cells.get(cell, owner);
+        if (current != owner) return false;
+        cells.put(cell, owner);
+        return true;
+    }
+
+    int size() {
+        return cells.size();
+    }
+
+    // Frees the cell, unless it's reserved by someone else.
+    void release(long cell, int owner) {
+        if (cells.get(cell, owner - 1) == owner) cells.remove(cell);
+    }
+}
@@ -25,17 +25,48 @@
 package it.unicam.cs.mpmgc.formula1.api.strategy.graph;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 // TODO: could maybe extract all node operations in a more general class,
 //  because their operations are the same for directed and undirected.
 public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
 
+    // Bidirectional index: nodes.get(nodesIndex.get(node)) is node. Indexes
+    // are kept dense, removing a node moves the last one in its place.
     private final Map<GraphNode<T>, Integer> nodesIndex;
+    private final List<GraphNode<T>> nodes;
     private final List<List<GraphEdge<T>>> matrix;
 
+    // Maintained on every change, so counting never walks the matrix.
+    private int edgeCount;
+    private int[] outDegrees;
+    private int[] inDegrees;
+    private final int expectedNodes;
+
     public AdjacencyMatrixDirectedGraph() {
-        this.matrix = new ArrayList<>();
-        this.nodesIndex = new HashMap<>();
+        this(16, 0);
+    }
+
+    /**
+     * Creates a graph already sized to hold the expected number of nodes
+     * without growing. A matrix always has a cell for every possible edge,
+     * so the expected edges are only checked.
+     *
+     * @param expectedNodes the number of nodes the graph is expected to have.
+     * @param expectedEdges the number of edges the graph is expected to have.
+     * @throws IllegalArgumentException if one of the numbers is negative.
+     */
+    public AdjacencyMatrixDirectedGraph(int expectedNodes, int expectedEdges) {
+        if (expectedNodes < 0 || expectedEdges < 0)
+            throw new IllegalArgumentException("The expected number of nodes " +
+                    "and edges can't be negative");
+        this.expectedNodes = expectedNodes;
+        this.matrix = new ArrayList<>(expectedNodes);
+        this.nodesIndex = new HashMap<>(expectedNodes * 4 / 3 + 1);
+        this.nodes = new ArrayList<>(expectedNodes);
+        this.outDegrees = new int[Math.max(expectedNodes, 1)];
+        this.inDegrees = new int[Math.max(expectedNodes, 1)];
     }
 
     @Override
@@ -43,21 +74,19 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
         return nodesIndex.size();
     }
 
-    // TODO: rivisit
     @Override
     public int edgeCount() {
-        int edges = 0;
-        for (int i = 0; i < nodeCount(); i++) {
-            for (int j = 0; j < nodeCount(); j++)
-                if(this.matrix.get(i).get(j) != null) edges++;
-        }
-        return edges;
+        return this.edgeCount;
     }
 
     @Override
     public void clear() {
         this.matrix.clear();
         this.nodesIndex.clear();
+        this.nodes.clear();
+        this.edgeCount = 0;
+        Arrays.fill(this.outDegrees, 0);
+        Arrays.fill(this.inDegrees, 0);
     }
 
     @Override
@@ -67,7 +96,7 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
 
     @Override
     public Set<GraphNode<T>> getNodes() {
-        return new HashSet<>(nodesIndex.keySet());
+        return new HashSet<>(nodes);
     }
 
     @Override
@@ -78,16 +107,51 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
         if (containsNode(node)) return false;
 
         this.nodesIndex.put(node, nodeCount());
+        this.nodes.add(node);
+        growMatrix(1);
 
-        for(List<GraphEdge<T>> edges : this.matrix) edges.add(null);
+        return true;
+    }
 
-        this.matrix.add(new ArrayList<>());
-        for (int i = 0; i < nodeCount(); i++)
-            this.matrix.get(nodeCount()-1).add(null);
+    @Override
+    public boolean addNodes(Collection<GraphNode<T>> nodes) {
+        if (nodes == null)
+            throw new NullPointerException("Nodes are null");
+        for (GraphNode<T> node : nodes)
+            if (node == null)
+                throw new NullPointerException("Node is null");
+
+        int oldCount = nodeCount();
+        for (GraphNode<T> node : nodes) {
+            if (containsNode(node)) continue;
+            this.nodesIndex.put(node, nodeCount());
+            this.nodes.add(node);
+        }
+        if (nodeCount() == oldCount) return false;
 
+        growMatrix(nodeCount() - oldCount);
         return true;
     }
 
+    // Adds the rows and the columns of the last added nodes, all at once.
+    private void growMatrix(int added) {
+        if(nodeCount() > this.outDegrees.length) {
+            this.outDegrees = Arrays.copyOf(this.outDegrees, nodeCount()*2);
+            this.inDegrees = Arrays.copyOf(this.inDegrees, nodeCount()*2);
+        }
+
+        List<GraphEdge<T>> newColumns = Collections.nCopies(added, null);
+        for(List<GraphEdge<T>> edges : this.matrix) edges.addAll(newColumns);
+
+        List<GraphEdge<T>> newRow = Collections.nCopies(nodeCount(), null);
+        for (int i = 0; i < added; i++) {
+            List<GraphEdge<T>> row =
+                    new ArrayList<>(Math.max(this.expectedNodes, nodeCount()));
+            row.addAll(newRow);
+            this.matrix.add(row);
+        }
+    }
+
     @Override
     public boolean removeNode(GraphNode<T> node) {
         if (node == null)
@@ -96,15 +160,38 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
         if(!containsNode(node)) return false;
 
         int toRemoveIndex = this.nodesIndex.remove(node);
+        int lastIndex = this.nodes.size()-1;
+
+        for (int j = 0; j < this.nodes.size(); j++) {
+            if(this.matrix.get(toRemoveIndex).get(j) != null) {
+                this.inDegrees[j]--;
+                this.edgeCount--;
+            }
+            if(j != toRemoveIndex && this.matrix.get(j).get(toRemoveIndex) != null) {
+                this.outDegrees[j]--;
+                this.edgeCount--;
+            }
+        }
 
-        this.matrix.remove(toRemoveIndex);
-        for(List<GraphEdge<T>> edges : this.matrix) edges.remove(toRemoveIndex);
-
-        for (Map.Entry<GraphNode<T>, Integer> entry :
-                this.nodesIndex.entrySet()) {
-            if(entry.getValue() > toRemoveIndex)
-                this.nodesIndex.put(entry.getKey(), entry.getValue()-1);
+        // Swap-remove: the last node takes the index of the removed one, so
+        // no other index has to change.
+        if(toRemoveIndex != lastIndex) {
+            for(List<GraphEdge<T>> edges : this.matrix)
+                edges.set(toRemoveIndex, edges.get(lastIndex));
+            this.matrix.set(toRemoveIndex, this.matrix.get(lastIndex));
+
+            GraphNode<T> movedNode = this.nodes.get(lastIndex);
+            this.nodes.set(toRemoveIndex, movedNode);
+            this.nodesIndex.put(movedNode, toRemoveIndex);
+            this.outDegrees[toRemoveIndex] = this.outDegrees[lastIndex];
+            this.inDegrees[toRemoveIndex] = this.inDegrees[lastIndex];
         }
+        this.outDegrees[lastIndex] = 0;
+        this.inDegrees[lastIndex] = 0;
+
+        this.matrix.remove(lastIndex);
+        for(List<GraphEdge<T>> edges : this.matrix) edges.remove(lastIndex);
+        this.nodes.remove(lastIndex);
         return true;
     }
 
@@ -120,12 +207,8 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
         if (label == null)
             throw new  NullPointerException("Label is null");
 
-        GraphNode<T> requestedNode = new GraphNode<>(label);
-
-        for(GraphNode<T> checkedNode : this.nodesIndex.keySet())
-            if(checkedNode.equals(requestedNode)) return checkedNode;
-
-        return null;
+        Integer index = this.nodesIndex.get(new GraphNode<>(label));
+        return index == null ? null : this.nodes.get(index);
     }
 
     @Override
@@ -133,25 +216,24 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
         if (label == null)
             throw new NullPointerException("Label is null");
 
-        GraphNode<T> node = new GraphNode<>(label);
-        if(!containsNode(node))
+        Integer index = this.nodesIndex.get(new GraphNode<>(label));
+        if(index == null)
             throw new IllegalArgumentException("The node of the label passed as" +
                     " parameter doesn't exist");
 
-        return this.nodesIndex.get(node);
+        return index;
     }
 
     @Override
     public GraphNode<T> getNodeAtIndex(int i) {
+        return this.nodes.get(checkIndex(i));
+    }
+
+    private int checkIndex(int i) {
         if(i > nodeCount()-1 || i < 0)
             throw new IndexOutOfBoundsException("The index goes beyond the " +
                     "limit of [0, node count-1]");
-
-        for (Map.Entry<GraphNode<T>, Integer> entry : nodesIndex.entrySet())
-            if(entry.getValue() == i) return entry.getKey();
-
-        throw new IndexOutOfBoundsException("The indec doesnt correspond to any" +
-                " existing node");
+        return i;
     }
 
     @Override
@@ -162,7 +244,7 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
             throw new IllegalArgumentException("The node doesn't exist");
 
         Set<GraphNode<T>> adjacentNodes = new HashSet<>();
-        int nodeIndex = getNodeIndexOf(node.getLabel());
+        int nodeIndex = this.nodesIndex.get(node);
 
         for (GraphEdge<T> edge:matrix.get(nodeIndex))
             if(edge != null) adjacentNodes.add(edge.getNode2());
@@ -178,7 +260,7 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
             throw new IllegalArgumentException("The node doesn't exist");
 
         Set<GraphNode<T>> predecessorNodes = new HashSet<>();
-        int nodeIndex = getNodeIndexOf(node.getLabel());
+        int nodeIndex = this.nodesIndex.get(node);
 
         for (List<GraphEdge<T>> edgeList:matrix)
             if(edgeList.get(nodeIndex) != null)
@@ -187,6 +269,52 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
         return predecessorNodes;
     }
 
+    @Override
+    public void forEachSuccessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        List<GraphEdge<T>> row = this.matrix.get(checkIndex(nodeIndex));
+        for (int j = 0; j < nodeCount(); j++)
+            if(row.get(j) != null) action.accept(j);
+    }
+
+    @Override
+    public void forEachSuccessor(GraphNode<T> node, Consumer<GraphNode<T>> action) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        if(!containsNode(node))
+            throw new IllegalArgumentException("The node doesn't exist");
+        if (action == null)
+            throw new NullPointerException("Action is null");
+
+        for (GraphEdge<T> edge : this.matrix.get(this.nodesIndex.get(node)))
+            if(edge != null) action.accept(edge.getNode2());
+    }
+
+    @Override
+    public void forEachPredecessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        checkIndex(nodeIndex);
+        for (int i = 0; i < nodeCount(); i++)
+            if(this.matrix.get(i).get(nodeIndex) != null) action.accept(i);
+    }
+
+    @Override
+    public void forEachPredecessor(GraphNode<T> node, Consumer<GraphNode<T>> action) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        if(!containsNode(node))
+            throw new IllegalArgumentException("The node doesn't exist");
+        if (action == null)
+            throw new NullPointerException("Action is null");
+
+        int nodeIndex = this.nodesIndex.get(node);
+        for (List<GraphEdge<T>> edgeList : this.matrix)
+            if(edgeList.get(nodeIndex) != null)
+                action.accept(edgeList.get(nodeIndex).getNode1());
+    }
+
     @Override
     public Set<GraphEdge<T>> getEdges() {
         Set<GraphEdge<T>> edgeSet = new HashSet<>();
@@ -212,10 +340,13 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
 
         if(containsEdge(edge)) return false;
 
-        int index1 = getNodeIndexOf(edge.getNode1().getLabel());
-        int index2 = getNodeIndexOf(edge.getNode2().getLabel());
+        int index1 = this.nodesIndex.get(edge.getNode1());
+        int index2 = this.nodesIndex.get(edge.getNode2());
 
         this.matrix.get(index1).set(index2, edge);
+        this.outDegrees[index1]++;
+        this.inDegrees[index2]++;
+        this.edgeCount++;
 
         return true;
     }
@@ -231,10 +362,13 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
 
         if(!containsEdge(edge)) return false;
 
-        int index1 = getNodeIndexOf(edge.getNode1().getLabel());
-        int index2 = getNodeIndexOf(edge.getNode2().getLabel());
+        int index1 = this.nodesIndex.get(edge.getNode1());
+        int index2 = this.nodesIndex.get(edge.getNode2());
 
         this.matrix.get(index1).set(index2, null);
+        this.outDegrees[index1]--;
+        this.inDegrees[index2]--;
+        this.edgeCount--;
         return true;
     }
 
@@ -248,8 +382,28 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
                     "One of the nodes the edge is linked to doesn't exist.");
 
         return this.matrix
-                .get(getNodeIndexOf(edge.getNode1().getLabel()))
-                .get(getNodeIndexOf(edge.getNode2().getLabel())) != null;
+                .get(this.nodesIndex.get(edge.getNode1()))
+                .get(this.nodesIndex.get(edge.getNode2())) != null;
+    }
+
+    @Override
+    public int outDegree(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        if(!containsNode(node))
+            throw new IllegalArgumentException("The node doesn't exist");
+
+        return this.outDegrees[this.nodesIndex.get(node)];
+    }
+
+    @Override
+    public int inDegree(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        if(!containsNode(node))
+            throw new IllegalArgumentException("The node doesn't exist");
+
+        return this.inDegrees[this.nodesIndex.get(node)];
     }
 
     @Override
@@ -260,7 +414,7 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
             throw new IllegalArgumentException("The node doesn't exist");
 
         Set<GraphEdge<T>> edgesOf = new HashSet<>();
-        int nodeIndex = getNodeIndexOf(node.getLabel());
+        int nodeIndex = this.nodesIndex.get(node);
 
         for (int j = 0; j < nodeCount(); j++) {
             GraphEdge<T> currentEdge = matrix.get(nodeIndex).get(j);
@@ -277,7 +431,7 @@ public class AdjacencyMatrixDirectedGraph<T> implements Graph<T> {
             throw new IllegalArgumentException("The node doesn't exist");
 
         Set<GraphEdge<T>> predecessorNodes = new HashSet<>();
-        int nodeIndex = getNodeIndexOf(node.getLabel());
+        int nodeIndex = this.nodesIndex.get(node);
 
         for (List<GraphEdge<T>> edgeList:matrix)
             if(edgeList.get(nodeIndex) != null)
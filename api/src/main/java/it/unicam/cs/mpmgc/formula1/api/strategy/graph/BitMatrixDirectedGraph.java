@@ -0,0 +1,414 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.graph;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A directed {@link Graph} for small dense graphs, that stores its adjacency
+ * matrix as one bit per cell. Every node has a row bitset for its outgoing
+ * edges and a column bitset for its ingoing edges, so successors and
+ * predecessors are both scanned a 64 bit word at a time. The
+ * {@link GraphEdge edges} are not stored: they are created only when a method
+ * has to return them.
+ *
+ * @param <T> the node label
+ */
+public class BitMatrixDirectedGraph<T> implements Graph<T> {
+
+    // Same dense bidirectional index of AdjacencyMatrixDirectedGraph.
+    private final Map<GraphNode<T>, Integer> nodesIndex;
+    private final List<GraphNode<T>> nodes;
+    // rows[i] has the bit j set if i --> j, columns[j] has the bit i set.
+    private long[][] rows;
+    private long[][] columns;
+    private int words;
+
+    public BitMatrixDirectedGraph() {
+        this(64, 0);
+    }
+
+    /**
+     * Creates a graph already sized to hold the expected number of nodes
+     * without growing. Every possible edge already has its bit, so the
+     * expected edges are only checked.
+     *
+     * @param expectedNodes the number of nodes the graph is expected to have.
+     * @param expectedEdges the number of edges the graph is expected to have.
+     * @throws IllegalArgumentException if one of the numbers is negative.
+     */
+    public BitMatrixDirectedGraph(int expectedNodes, int expectedEdges) {
+        if (expectedNodes < 0 || expectedEdges < 0)
+            throw new IllegalArgumentException("The expected number of nodes " +
+                    "and edges can't be negative");
+        this.nodesIndex = new HashMap<>(expectedNodes * 4 / 3 + 1);
+        this.nodes = new ArrayList<>(expectedNodes);
+        this.words = Math.max((expectedNodes + 63) >>> 6, 1);
+        this.rows = new long[words * 64][];
+        this.columns = new long[words * 64][];
+    }
+
+    @Override
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    @Override
+    public int edgeCount() {
+        int edges = 0;
+        for (int i = 0; i < nodeCount(); i++)
+            for (int w = 0; w < usedWords(); w++)
+                edges += Long.bitCount(rows[i][w]);
+        return edges;
+    }
+
+    @Override
+    public void clear() {
+        this.nodesIndex.clear();
+        this.nodes.clear();
+        Arrays.fill(this.rows, null);
+        Arrays.fill(this.columns, null);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public Set<GraphNode<T>> getNodes() {
+        return new HashSet<>(nodes);
+    }
+
+    @Override
+    public boolean addNode(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        if (containsNode(node)) return false;
+
+        int index = nodeCount();
+        ensureCapacity(index + 1);
+        this.nodesIndex.put(node, index);
+        this.nodes.add(node);
+        this.rows[index] = new long[words];
+        this.columns[index] = new long[words];
+        return true;
+    }
+
+    @Override
+    public boolean addNodes(Collection<GraphNode<T>> nodes) {
+        if (nodes == null)
+            throw new NullPointerException("Nodes are null");
+        for (GraphNode<T> node : nodes)
+            if (node == null)
+                throw new NullPointerException("Node is null");
+
+        ensureCapacity(nodeCount() + nodes.size());
+        boolean added = false;
+        for (GraphNode<T> node : nodes)
+            added |= addNode(node);
+        return added;
+    }
+
+    @Override
+    public boolean removeNode(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        if (!containsNode(node)) return false;
+
+        int toRemoveIndex = this.nodesIndex.remove(node);
+        int lastIndex = nodeCount() - 1;
+
+        for (int w = 0; w < usedWords(); w++) {
+            for (long word = rows[toRemoveIndex][w]; word != 0; word &= word - 1)
+                clearBit(columns[w * 64 + Long.numberOfTrailingZeros(word)], toRemoveIndex);
+            for (long word = columns[toRemoveIndex][w]; word != 0; word &= word - 1)
+                clearBit(rows[w * 64 + Long.numberOfTrailingZeros(word)], toRemoveIndex);
+        }
+
+        // Swap-remove: the last node takes the index of the removed one, and
+        // every bit that pointed to it is moved accordingly. A self-loop is in
+        // the moved row and column themselves, so it's moved on its own.
+        if (toRemoveIndex != lastIndex) {
+            boolean selfLoop = (rows[lastIndex][lastIndex >>> 6] & (1L << lastIndex)) != 0;
+            if (selfLoop) {
+                clearBit(rows[lastIndex], lastIndex);
+                clearBit(columns[lastIndex], lastIndex);
+            }
+            rows[toRemoveIndex] = rows[lastIndex];
+            columns[toRemoveIndex] = columns[lastIndex];
+            for (int w = 0; w < usedWords(); w++) {
+                for (long word = rows[toRemoveIndex][w]; word != 0; word &= word - 1)
+                    moveBit(columns[w * 64 + Long.numberOfTrailingZeros(word)],
+                            lastIndex, toRemoveIndex);
+                for (long word = columns[toRemoveIndex][w]; word != 0; word &= word - 1)
+                    moveBit(rows[w * 64 + Long.numberOfTrailingZeros(word)],
+                            lastIndex, toRemoveIndex);
+            }
+            if (selfLoop) {
+                setBit(rows[toRemoveIndex], toRemoveIndex);
+                setBit(columns[toRemoveIndex], toRemoveIndex);
+            }
+            GraphNode<T> movedNode = this.nodes.get(lastIndex);
+            this.nodes.set(toRemoveIndex, movedNode);
+            this.nodesIndex.put(movedNode, toRemoveIndex);
+        }
+        rows[lastIndex] = null;
+        columns[lastIndex] = null;
+        this.nodes.remove(lastIndex);
+        return true;
+    }
+
+    @Override
+    public boolean containsNode(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        return this.nodesIndex.containsKey(node);
+    }
+
+    @Override
+    public GraphNode<T> getNodeOf(T label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        Integer index = this.nodesIndex.get(new GraphNode<>(label));
+        return index == null ? null : this.nodes.get(index);
+    }
+
+    @Override
+    public int getNodeIndexOf(T label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        Integer index = this.nodesIndex.get(new GraphNode<>(label));
+        if (index == null)
+            throw new IllegalArgumentException("The node of the label passed as" +
+                    " parameter doesn't exist");
+        return index;
+    }
+
+    @Override
+    public GraphNode<T> getNodeAtIndex(int i) {
+        return this.nodes.get(checkIndex(i));
+    }
+
+    @Override
+    public Set<GraphNode<T>> getAdjacentNodesOf(GraphNode<T> node) {
+        long[] row = rows[indexOfExisting(node)];
+        Set<GraphNode<T>> adjacentNodes = new HashSet<>();
+        for (int w = 0; w < usedWords(); w++)
+            for (long word = row[w]; word != 0; word &= word - 1)
+                adjacentNodes.add(nodes.get(w * 64 + Long.numberOfTrailingZeros(word)));
+        return adjacentNodes;
+    }
+
+    @Override
+    public Set<GraphNode<T>> getPredecessorNodesOf(GraphNode<T> node) {
+        long[] column = columns[indexOfExisting(node)];
+        Set<GraphNode<T>> predecessorNodes = new HashSet<>();
+        for (int w = 0; w < usedWords(); w++)
+            for (long word = column[w]; word != 0; word &= word - 1)
+                predecessorNodes.add(nodes.get(w * 64 + Long.numberOfTrailingZeros(word)));
+        return predecessorNodes;
+    }
+
+    @Override
+    public void forEachSuccessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        forEachBit(rows[checkIndex(nodeIndex)], action);
+    }
+
+    @Override
+    public void forEachSuccessor(GraphNode<T> node, Consumer<GraphNode<T>> action) {
+        long[] row = rows[indexOfExisting(node)];
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (int w = 0; w < usedWords(); w++)
+            for (long word = row[w]; word != 0; word &= word - 1)
+                action.accept(nodes.get(w * 64 + Long.numberOfTrailingZeros(word)));
+    }
+
+    @Override
+    public void forEachPredecessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        forEachBit(columns[checkIndex(nodeIndex)], action);
+    }
+
+    @Override
+    public void forEachPredecessor(GraphNode<T> node, Consumer<GraphNode<T>> action) {
+        long[] column = columns[indexOfExisting(node)];
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (int w = 0; w < usedWords(); w++)
+            for (long word = column[w]; word != 0; word &= word - 1)
+                action.accept(nodes.get(w * 64 + Long.numberOfTrailingZeros(word)));
+    }
+
+    @Override
+    public Set<GraphEdge<T>> getEdges() {
+        Set<GraphEdge<T>> edgeSet = new HashSet<>();
+        for (int i = 0; i < nodeCount(); i++)
+            edgeSet.addAll(getEdgesOf(nodes.get(i)));
+        return edgeSet;
+    }
+
+    @Override
+    public boolean addEdge(GraphEdge<T> edge) {
+        if (edge == null)
+            throw new NullPointerException("Edge is null");
+        if (!edge.isDirected())
+            throw new IllegalArgumentException(
+                    "The edge is undirected. This graph is directed.");
+        if (containsEdge(edge)) return false;
+
+        int index1 = this.nodesIndex.get(edge.getNode1());
+        int index2 = this.nodesIndex.get(edge.getNode2());
+        setBit(rows[index1], index2);
+        setBit(columns[index2], index1);
+        return true;
+    }
+
+    @Override
+    public boolean removeEdge(GraphEdge<T> edge) {
+        if (edge == null)
+            throw new NullPointerException("Edge is null");
+        if (!containsEdge(edge)) return false;
+
+        int index1 = this.nodesIndex.get(edge.getNode1());
+        int index2 = this.nodesIndex.get(edge.getNode2());
+        clearBit(rows[index1], index2);
+        clearBit(columns[index2], index1);
+        return true;
+    }
+
+    @Override
+    public boolean containsEdge(GraphEdge<T> edge) {
+        if (edge == null)
+            throw new NullPointerException("Edge is null");
+        if (!containsNode(edge.getNode1())
+                || !containsNode(edge.getNode2()))
+            throw new IllegalArgumentException(
+                    "One of the nodes the edge is linked to doesn't exist.");
+
+        int index2 = this.nodesIndex.get(edge.getNode2());
+        return (rows[this.nodesIndex.get(edge.getNode1())][index2 >>> 6]
+                & (1L << index2)) != 0;
+    }
+
+    @Override
+    public int outDegree(GraphNode<T> node) {
+        long[] row = rows[indexOfExisting(node)];
+        int degree = 0;
+        for (int w = 0; w < usedWords(); w++) degree += Long.bitCount(row[w]);
+        return degree;
+    }
+
+    @Override
+    public int inDegree(GraphNode<T> node) {
+        long[] column = columns[indexOfExisting(node)];
+        int degree = 0;
+        for (int w = 0; w < usedWords(); w++) degree += Long.bitCount(column[w]);
+        return degree;
+    }
+
+    @Override
+    public Set<GraphEdge<T>> getEdgesOf(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphEdge<T>> edgesOf = new HashSet<>();
+        for (int w = 0; w < usedWords(); w++)
+            for (long word = rows[nodeIndex][w]; word != 0; word &= word - 1)
+                edgesOf.add(new GraphEdge<>(nodes.get(nodeIndex),
+                        nodes.get(w * 64 + Long.numberOfTrailingZeros(word)), true));
+        return edgesOf;
+    }
+
+    @Override
+    public Set<GraphEdge<T>> getIngoingEdgesOf(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphEdge<T>> ingoingEdges = new HashSet<>();
+        for (int w = 0; w < usedWords(); w++)
+            for (long word = columns[nodeIndex][w]; word != 0; word &= word - 1)
+                ingoingEdges.add(new GraphEdge<>(
+                        nodes.get(w * 64 + Long.numberOfTrailingZeros(word)),
+                        nodes.get(nodeIndex), true));
+        return ingoingEdges;
+    }
+
+    private void forEachBit(long[] bits, IntConsumer action) {
+        for (int w = 0; w < usedWords(); w++)
+            for (long word = bits[w]; word != 0; word &= word - 1)
+                action.accept(w * 64 + Long.numberOfTrailingZeros(word));
+    }
+
+    private int checkIndex(int i) {
+        if (i > nodeCount() - 1 || i < 0)
+            throw new IndexOutOfBoundsException("The index goes beyond the " +
+                    "limit of [0, node count-1]");
+        return i;
+    }
+
+    private int indexOfExisting(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        Integer index = this.nodesIndex.get(node);
+        if (index == null)
+            throw new IllegalArgumentException("The node doesn't exist");
+        return index;
+    }
+
+    // Number of words that can have a bit set, the others are always zero.
+    private int usedWords() {
+        return (nodeCount() + 63) >>> 6;
+    }
+
+    private void ensureCapacity(int nodeCount) {
+        if (nodeCount > rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(rows.length * 2, nodeCount));
+            columns = Arrays.copyOf(columns, rows.length);
+        }
+        if (nodeCount > words * 64) {
+            words = Math.max(words * 2, (nodeCount + 63) >>> 6);
+            for (int i = 0; i < nodes.size(); i++) {
+                rows[i] = Arrays.copyOf(rows[i], words);
+                columns[i] = Arrays.copyOf(columns[i], words);
+            }
+        }
+    }
+
+    private static void setBit(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static void clearBit(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    private static void moveBit(long[] bits, int from, int to) {
+        clearBit(bits, from);
+        setBit(bits, to);
+    }
+}
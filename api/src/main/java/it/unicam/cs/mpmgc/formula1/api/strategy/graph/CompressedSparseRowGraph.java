@@ -0,0 +1,518 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.graph;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A read-only directed {@link Graph} that stores its adjacency in compressed
+ * sparse row form: the successors of the node at index {@code i} are the
+ * entries {@code targets[offsets[i]]..targets[offsets[i+1]-1]}. The same layout
+ * is kept for the predecessors, so both directions are a contiguous array scan
+ * and the memory used is proportional to the number of nodes plus the number of
+ * edges.
+ * <p>
+ * Instances are created with a {@link Builder} or {@link #copyOf(Graph)} and
+ * can't be modified afterwards: every mutating operation throws an
+ * {@link UnsupportedOperationException}. Being immutable, the same instance
+ * can be read by many threads at once without any locking.
+ *
+ * @param <T> the node label
+ */
+public final class CompressedSparseRowGraph<T> implements Graph<T> {
+
+    private final List<GraphNode<T>> nodes;
+    private final Map<GraphNode<T>, Integer> nodesIndex;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] inOffsets;
+    private final int[] sources;
+
+    /*
+     * Edges are given as two parallel arrays of node indexes, only the first
+     * edgeCount entries are read. Duplicated edges are collapsed.
+     */
+    CompressedSparseRowGraph(List<GraphNode<T>> nodes,
+                             Map<GraphNode<T>, Integer> nodesIndex,
+                             int[] edgeFrom, int[] edgeTo, int edgeCount) {
+        int n = nodes.size();
+        this.nodes = List.copyOf(nodes);
+        this.nodesIndex = Map.copyOf(nodesIndex);
+
+        int[] rowOffsets = countingSort(edgeFrom, edgeTo, edgeCount, n);
+        int[] rowTargets = scatter(edgeFrom, edgeTo, edgeCount, rowOffsets);
+
+        // Sorts every row and removes the duplicated targets in place.
+        int write = 0;
+        for (int i = 0; i < n; i++) {
+            int from = rowOffsets[i];
+            int to = rowOffsets[i + 1];
+            Arrays.sort(rowTargets, from, to);
+            rowOffsets[i] = write;
+            for (int j = from; j < to; j++)
+                if (j == from || rowTargets[j] != rowTargets[j - 1])
+                    rowTargets[write++] = rowTargets[j];
+        }
+        rowOffsets[n] = write;
+
+        this.offsets = rowOffsets;
+        this.targets = Arrays.copyOf(rowTargets, write);
+
+        int[] rowSources = new int[write];
+        for (int i = 0; i < n; i++)
+            for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                rowSources[j] = i;
+        this.inOffsets = countingSort(targets, rowSources, write, n);
+        this.sources = scatter(targets, rowSources, write, inOffsets);
+    }
+
+    /**
+     * Returns a read-only copy of the passed directed graph, where every node
+     * keeps its index. If the graph is already a
+     * {@link CompressedSparseRowGraph} it is returned as it is.
+     *
+     * @param graph the graph to copy
+     * @param <T>   the node label
+     * @return a read-only copy of the graph.
+     * @throws NullPointerException     if the graph is null.
+     * @throws IllegalArgumentException if the graph is undirected.
+     */
+    public static <T> CompressedSparseRowGraph<T> copyOf(Graph<T> graph) {
+        if (graph == null)
+            throw new NullPointerException("Graph is null");
+        if (graph instanceof CompressedSparseRowGraph<T> frozen)
+            return frozen;
+        if (!graph.isDirected())
+            throw new IllegalArgumentException(
+                    "The graph is undirected. This graph is directed.");
+
+        int n = graph.nodeCount();
+        List<GraphNode<T>> nodes = new ArrayList<>(n);
+        Map<GraphNode<T>, Integer> nodesIndex = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            GraphNode<T> node = graph.getNodeAtIndex(i);
+            nodes.add(node);
+            nodesIndex.put(node, i);
+        }
+
+        int[] edgeFrom = new int[graph.edgeCount()];
+        int[] edgeTo = new int[graph.edgeCount()];
+        int[] edgeCount = {0};
+        for (int i = 0; i < n; i++) {
+            int from = i;
+            graph.forEachSuccessor(i, to -> {
+                edgeFrom[edgeCount[0]] = from;
+                edgeTo[edgeCount[0]++] = to;
+            });
+        }
+        return new CompressedSparseRowGraph<>(nodes, nodesIndex, edgeFrom,
+                edgeTo, edgeCount[0]);
+    }
+
+    /*
+     * Returns the offsets of the rows obtained grouping the edges by their key.
+     */
+    private static int[] countingSort(int[] keys, int[] values, int count, int n) {
+        int[] rowOffsets = new int[n + 1];
+        for (int e = 0; e < count; e++) {
+            if (keys[e] < 0 || keys[e] >= n || values[e] < 0 || values[e] >= n)
+                throw new IndexOutOfBoundsException("The edge links a node " +
+                        "index outside the limit of [0, node count-1]");
+            rowOffsets[keys[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) rowOffsets[i + 1] += rowOffsets[i];
+        return rowOffsets;
+    }
+
+    /*
+     * Places the values in their rows. Values with the same key keep the
+     * order they were given in.
+     */
+    private static int[] scatter(int[] keys, int[] values, int count,
+                                 int[] rowOffsets) {
+        int[] next = Arrays.copyOf(rowOffsets, rowOffsets.length - 1);
+        int[] row = new int[count];
+        for (int e = 0; e < count; e++) row[next[keys[e]]++] = values[e];
+        return row;
+    }
+
+    @Override
+    public Graph<T> freeze() {
+        return this;
+    }
+
+    @Override
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    @Override
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public Set<GraphNode<T>> getNodes() {
+        return new HashSet<>(nodes);
+    }
+
+    @Override
+    public boolean addNode(GraphNode<T> node) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean removeNode(GraphNode<T> node) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean containsNode(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        return nodesIndex.containsKey(node);
+    }
+
+    @Override
+    public GraphNode<T> getNodeOf(T label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        Integer index = nodesIndex.get(new GraphNode<>(label));
+        return index == null ? null : nodes.get(index);
+    }
+
+    @Override
+    public int getNodeIndexOf(T label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        Integer index = nodesIndex.get(new GraphNode<>(label));
+        if (index == null)
+            throw new IllegalArgumentException("The node of the label passed as" +
+                    " parameter doesn't exist");
+        return index;
+    }
+
+    @Override
+    public GraphNode<T> getNodeAtIndex(int i) {
+        return nodes.get(checkIndex(i));
+    }
+
+    @Override
+    public Set<GraphNode<T>> getAdjacentNodesOf(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphNode<T>> adjacentNodes = new HashSet<>();
+        for (int j = offsets[nodeIndex]; j < offsets[nodeIndex + 1]; j++)
+            adjacentNodes.add(nodes.get(targets[j]));
+        return adjacentNodes;
+    }
+
+    @Override
+    public Set<GraphNode<T>> getPredecessorNodesOf(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphNode<T>> predecessorNodes = new HashSet<>();
+        for (int j = inOffsets[nodeIndex]; j < inOffsets[nodeIndex + 1]; j++)
+            predecessorNodes.add(nodes.get(sources[j]));
+        return predecessorNodes;
+    }
+
+    @Override
+    public void forEachSuccessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        checkIndex(nodeIndex);
+        for (int j = offsets[nodeIndex]; j < offsets[nodeIndex + 1]; j++)
+            action.accept(targets[j]);
+    }
+
+    @Override
+    public void forEachSuccessor(GraphNode<T> node, Consumer<GraphNode<T>> action) {
+        int nodeIndex = indexOfExisting(node);
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (int j = offsets[nodeIndex]; j < offsets[nodeIndex + 1]; j++)
+            action.accept(nodes.get(targets[j]));
+    }
+
+    @Override
+    public void forEachPredecessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        checkIndex(nodeIndex);
+        for (int j = inOffsets[nodeIndex]; j < inOffsets[nodeIndex + 1]; j++)
+            action.accept(sources[j]);
+    }
+
+    @Override
+    public void forEachPredecessor(GraphNode<T> node, Consumer<GraphNode<T>> action) {
+        int nodeIndex = indexOfExisting(node);
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (int j = inOffsets[nodeIndex]; j < inOffsets[nodeIndex + 1]; j++)
+            action.accept(nodes.get(sources[j]));
+    }
+
+    @Override
+    public Set<GraphEdge<T>> getEdges() {
+        Set<GraphEdge<T>> edgeSet = new HashSet<>();
+        for (int i = 0; i < nodeCount(); i++)
+            for (int j = offsets[i]; j < offsets[i + 1]; j++)
+                edgeSet.add(new GraphEdge<>(nodes.get(i), nodes.get(targets[j]), true));
+        return edgeSet;
+    }
+
+    @Override
+    public boolean addEdge(GraphEdge<T> edge) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean removeEdge(GraphEdge<T> edge) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean containsEdge(GraphEdge<T> edge) {
+        if (edge == null)
+            throw new NullPointerException("Edge is null");
+        if (!containsNode(edge.getNode1())
+                || !containsNode(edge.getNode2()))
+            throw new IllegalArgumentException(
+                    "One of the nodes the edge is linked to doesn't exist.");
+
+        int index1 = nodesIndex.get(edge.getNode1());
+        int index2 = nodesIndex.get(edge.getNode2());
+        return Arrays.binarySearch(targets, offsets[index1],
+                offsets[index1 + 1], index2) >= 0;
+    }
+
+    @Override
+    public int outDegree(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        return offsets[nodeIndex + 1] - offsets[nodeIndex];
+    }
+
+    @Override
+    public int inDegree(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        return inOffsets[nodeIndex + 1] - inOffsets[nodeIndex];
+    }
+
+    @Override
+    public Set<GraphEdge<T>> getEdgesOf(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphEdge<T>> edgesOf = new HashSet<>();
+        for (int j = offsets[nodeIndex]; j < offsets[nodeIndex + 1]; j++)
+            edgesOf.add(new GraphEdge<>(nodes.get(nodeIndex),
+                    nodes.get(targets[j]), true));
+        return edgesOf;
+    }
+
+    @Override
+    public Set<GraphEdge<T>> getIngoingEdgesOf(GraphNode<T> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphEdge<T>> ingoingEdges = new HashSet<>();
+        for (int j = inOffsets[nodeIndex]; j < inOffsets[nodeIndex + 1]; j++)
+            ingoingEdges.add(new GraphEdge<>(nodes.get(sources[j]),
+                    nodes.get(nodeIndex), true));
+        return ingoingEdges;
+    }
+
+    private int checkIndex(int i) {
+        if (i > nodeCount() - 1 || i < 0)
+            throw new IndexOutOfBoundsException("The index goes beyond the " +
+                    "limit of [0, node count-1]");
+        return i;
+    }
+
+    private int indexOfExisting(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        Integer index = nodesIndex.get(node);
+        if (index == null)
+            throw new IllegalArgumentException("The node doesn't exist");
+        return index;
+    }
+
+    /**
+     * Collects the nodes and edges of a {@link CompressedSparseRowGraph} and
+     * then freezes them in the compact representation with {@link #build()}.
+     * Duplicated edges are allowed while building and are collapsed into one.
+     *
+     * @param <T> the node label
+     */
+    public static final class Builder<T> {
+        private final List<GraphNode<T>> nodes;
+        private final Map<GraphNode<T>, Integer> nodesIndex;
+        private int[] edgeFrom;
+        private int[] edgeTo;
+        private int edgeCount;
+
+        public Builder() {
+            this(16, 16);
+        }
+
+        /**
+         * Creates a builder already sized to hold the expected number of
+         * nodes and edges without growing.
+         *
+         * @param expectedNodes the number of nodes the graph is expected to have.
+         * @param expectedEdges the number of edges the graph is expected to have.
+         * @throws IllegalArgumentException if one of the numbers is negative.
+         */
+        public Builder(int expectedNodes, int expectedEdges) {
+            if (expectedNodes < 0 || expectedEdges < 0)
+                throw new IllegalArgumentException("The expected number of " +
+                        "nodes and edges can't be negative");
+            this.nodes = new ArrayList<>(expectedNodes);
+            this.nodesIndex = new HashMap<>(expectedNodes * 4 / 3 + 1);
+            this.edgeFrom = new int[Math.max(expectedEdges, 1)];
+            this.edgeTo = new int[Math.max(expectedEdges, 1)];
+        }
+
+        /**
+         * Adds a node to the graph being built.
+         *
+         * @param node the node to add
+         * @return true if the node was added, false if it was already added.
+         * @throws NullPointerException if the node is null.
+         */
+        public boolean addNode(GraphNode<T> node) {
+            if (node == null)
+                throw new NullPointerException("Node is null");
+            if (nodesIndex.containsKey(node)) return false;
+
+            nodesIndex.put(node, nodes.size());
+            nodes.add(node);
+            return true;
+        }
+
+        /**
+         * Adds a directed edge to the graph being built.
+         *
+         * @param edge the edge to add
+         * @throws NullPointerException     if the edge is null.
+         * @throws IllegalArgumentException if the edge is undirected or one
+         *                                  of its nodes wasn't added.
+         */
+        public void addEdge(GraphEdge<T> edge) {
+            if (edge == null)
+                throw new NullPointerException("Edge is null");
+            if (!edge.isDirected())
+                throw new IllegalArgumentException(
+                        "The edge is undirected. This graph is directed.");
+            Integer index1 = nodesIndex.get(edge.getNode1());
+            Integer index2 = nodesIndex.get(edge.getNode2());
+            if (index1 == null || index2 == null)
+                throw new IllegalArgumentException(
+                        "One of the nodes the edge is linked to doesn't exist.");
+
+            addEdge(index1.intValue(), index2.intValue());
+        }
+
+        /**
+         * Adds a directed edge between the nodes at the passed indexes, that
+         * is the order in which they were added, starting from 0.
+         *
+         * @param from the index of the node the edge starts from
+         * @param to   the index of the node the edge goes to
+         * @throws IndexOutOfBoundsException if one of the indexes goes beyond
+         *                                   the limit of [0, node count-1].
+         */
+        public void addEdge(int from, int to) {
+            if (from < 0 || to < 0 || from >= nodes.size() || to >= nodes.size())
+                throw new IndexOutOfBoundsException("The index goes beyond the " +
+                        "limit of [0, node count-1]");
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount] = to;
+            edgeCount++;
+        }
+
+        /**
+         * Adds all the passed nodes to the graph being built.
+         *
+         * @param nodes the nodes to add
+         * @return true if at least one node was added, false if they were all
+         * already added.
+         * @throws NullPointerException if the collection or one of its nodes
+         *                              is null.
+         */
+        public boolean addNodes(Collection<GraphNode<T>> nodes) {
+            if (nodes == null)
+                throw new NullPointerException("Nodes are null");
+            boolean added = false;
+            for (GraphNode<T> node : nodes)
+                added |= addNode(node);
+            return added;
+        }
+
+        /**
+         * Adds all the passed directed edges to the graph being built.
+         *
+         * @param edges the edges to add
+         * @throws NullPointerException     if the collection or one of its
+         *                                  edges is null.
+         * @throws IllegalArgumentException if an edge is undirected or one of
+         *                                  its nodes wasn't added.
+         */
+        public void addEdges(Collection<GraphEdge<T>> edges) {
+            if (edges == null)
+                throw new NullPointerException("Edges are null");
+            int needed = edgeCount + edges.size();
+            if (needed > edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, needed);
+                edgeTo = Arrays.copyOf(edgeTo, needed);
+            }
+            for (GraphEdge<T> edge : edges)
+                addEdge(edge);
+        }
+
+        /**
+         * Freezes the nodes and edges added so far in a new graph. The builder
+         * can still be used afterwards.
+         *
+         * @return the built graph.
+         */
+        public CompressedSparseRowGraph<T> build() {
+            return new CompressedSparseRowGraph<>(nodes, nodesIndex, edgeFrom,
+                    edgeTo, edgeCount);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.graph;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the nodes and the edges of a directed graph from many threads at
+ * once, for example from the tasks of a
+ * {@link java.util.concurrent.ForkJoinPool ForkJoinPool} exploring a state
+ * space, and then freezes them in a {@link CompressedSparseRowGraph}.
+ * <p>
+ * Nodes are interned in a concurrent map, so every node gets exactly one
+ * index no matter how many threads add it. Edges are appended to a buffer
+ * of the calling thread, so adding them never contends, and all the buffers
+ * are merged only by {@link #build()}. The buffers belong to the builder, not
+ * to the threads, so nothing is left behind in the threads of a pool once the
+ * graph is built.
+ *
+ * @param <T> the node label
+ */
+public final class ConcurrentGraphBuilder<T> {
+    private final Map<GraphNode<T>, Integer> nodesIndex;
+    private final AtomicInteger nextIndex;
+    private final Map<Thread, EdgeBuffer> buffers;
+    private volatile boolean isBuilt;
+
+    public ConcurrentGraphBuilder() {
+        this(16);
+    }
+
+    /**
+     * Creates a builder already sized to hold the expected number of nodes.
+     *
+     * @param expectedNodes the number of nodes the graph is expected to have.
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    public ConcurrentGraphBuilder(int expectedNodes) {
+        if (expectedNodes < 0)
+            throw new IllegalArgumentException("The expected number of nodes " +
+                    "can't be negative");
+        this.nodesIndex = new ConcurrentHashMap<>(expectedNodes);
+        this.nextIndex = new AtomicInteger();
+        this.buffers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Adds a node. When many threads add the same node at the same time,
+     * only one of them gets true, so it can be used to decide which thread
+     * has to explore the node.
+     *
+     * @param node the node to add
+     * @return true if the node was added, false if it was already added.
+     * @throws NullPointerException if the node is null.
+     */
+    public boolean addNode(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        if (nodesIndex.containsKey(node)) return false;
+
+        int[] created = {-1};
+        nodesIndex.computeIfAbsent(node,
+                n -> created[0] = nextIndex.getAndIncrement());
+        return created[0] != -1;
+    }
+
+    /**
+     * Returns the index of the passed node, adding it if needed.
+     *
+     * @param node the node
+     * @return the index the node will have in the built graph.
+     * @throws NullPointerException if the node is null.
+     */
+    public int intern(GraphNode<T> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        Integer index = nodesIndex.get(node);
+        if (index != null) return index;
+        return nodesIndex.computeIfAbsent(node, n -> nextIndex.getAndIncrement());
+    }
+
+    /**
+     * Adds a directed edge, adding its nodes if needed. Duplicated edges are
+     * collapsed into one by {@link #build()}.
+     *
+     * @param edge the edge to add
+     * @throws NullPointerException     if the edge is null.
+     * @throws IllegalArgumentException if the edge is undirected.
+     * @throws IllegalStateException    if the graph is already built.
+     */
+    public void addEdge(GraphEdge<T> edge) {
+        if (edge == null)
+            throw new NullPointerException("Edge is null");
+        if (!edge.isDirected())
+            throw new IllegalArgumentException(
+                    "The edge is undirected. This graph is directed.");
+        if (isBuilt)
+            throw new IllegalStateException("The graph is already built");
+        // Only the current thread ever writes its buffer.
+        buffers.computeIfAbsent(Thread.currentThread(), t -> new EdgeBuffer())
+                .add(intern(edge.getNode1()), intern(edge.getNode2()));
+    }
+
+    /**
+     * Returns the number of nodes added so far.
+     *
+     * @return the number of nodes added so far.
+     */
+    public int nodeCount() {
+        return nextIndex.get();
+    }
+
+    /**
+     * Merges everything added so far in a new graph, and frees the buffers
+     * of the edges. It must be called only once, when every thread adding
+     * nodes and edges has finished, for example after joining their tasks.
+     *
+     * @return the built graph.
+     * @throws IllegalStateException if the graph is already built.
+     */
+    public CompressedSparseRowGraph<T> build() {
+        if (isBuilt)
+            throw new IllegalStateException("The graph is already built");
+        isBuilt = true;
+        int n = nextIndex.get();
+        List<GraphNode<T>> nodes = new ArrayList<>(Collections.nCopies(n, null));
+        for (Map.Entry<GraphNode<T>, Integer> entry : nodesIndex.entrySet())
+            nodes.set(entry.getValue(), entry.getKey());
+
+        int edgeCount = 0;
+        for (EdgeBuffer buffer : buffers.values()) edgeCount += buffer.size;
+        int[] edgeFrom = new int[edgeCount];
+        int[] edgeTo = new int[edgeCount];
+        int merged = 0;
+        for (EdgeBuffer buffer : buffers.values()) {
+            System.arraycopy(buffer.from, 0, edgeFrom, merged, buffer.size);
+            System.arraycopy(buffer.to, 0, edgeTo, merged, buffer.size);
+            merged += buffer.size;
+        }
+        buffers.clear();
+        return new CompressedSparseRowGraph<>(nodes, nodesIndex, edgeFrom,
+                edgeTo, edgeCount);
+    }
+
+    // Edges added by a single thread.
+    private static final class EdgeBuffer {
+        private int[] from = new int[64];
+        private int[] to = new int[64];
+        private int size;
+
+        private void add(int node1, int node2) {
+            if (size == from.length) {
+                from = Arrays.copyOf(from, size * 2);
+                to = Arrays.copyOf(to, size * 2);
+            }
+            from[size] = node1;
+            to[size++] = node2;
+        }
+    }
+}
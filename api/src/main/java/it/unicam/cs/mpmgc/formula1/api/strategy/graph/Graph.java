@@ -24,7 +24,10 @@
 
 package it.unicam.cs.mpmgc.formula1.api.strategy.graph;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Descrives every operation that a Graph with {@code GraphNode<L>} e
@@ -73,6 +76,25 @@ import java.util.Set;
      */
     boolean addNode(GraphNode<L> node);
 
+    /**
+     * Adds all the passed nodes to the graph. Implementations can grow their
+     * structures once for all the nodes, instead of once per node.
+     *
+     * @param nodes the nodes to add
+     * @return true if at least one node was added, false if they were all
+     * already in the graph.
+     * @throws NullPointerException if the collection or one of its nodes is
+     *                              null.
+     */
+    default boolean addNodes(Collection<GraphNode<L>> nodes) {
+        if (nodes == null)
+            throw new NullPointerException("Nodes are null");
+        boolean added = false;
+        for (GraphNode<L> node : nodes)
+            added |= addNode(node);
+        return added;
+    }
+
     /**
      * Removes the node and all its edges.
      * @param node the node to remove,
@@ -104,7 +126,8 @@ import java.util.Set;
 
     /**
      * Gives an index associated with a specific node in the graph given the
-     * label.
+     * label. Indexes are always in the interval of 0 and the number of
+     * nodes-1, so removing a node could change the index of another one.
      *
      * @param label the label of the node to search,
      * @return the index of the node
@@ -135,6 +158,73 @@ import java.util.Set;
      */
     Set<GraphNode<L>> getAdjacentNodesOf(GraphNode<L> node);
 
+    /**
+     * Calls the action with the index of every adjacent node of the node at
+     * the passed index. Unlike {@link #getAdjacentNodesOf(GraphNode)} no
+     * collection has to be created, so implementations should override it
+     * to not allocate anything.
+     *
+     * @param nodeIndex the index of the node
+     * @param action    the action called for every adjacent node index
+     * @throws IndexOutOfBoundsException if the index goes outside the
+     *                                   interval of 0 and the number of nodes-1.
+     * @throws NullPointerException      if the action is null
+     */
+    default void forEachSuccessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (GraphNode<L> node : getAdjacentNodesOf(getNodeAtIndex(nodeIndex)))
+            action.accept(getNodeIndexOf(node.getLabel()));
+    }
+
+    /**
+     * Calls the action with every adjacent node of the passed node.
+     *
+     * @param node   the node
+     * @param action the action called for every adjacent node
+     * @throws IllegalArgumentException if the node doesn't exist
+     * @throws NullPointerException     if the node or the action are null
+     */
+    default void forEachSuccessor(GraphNode<L> node, Consumer<GraphNode<L>> action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (GraphNode<L> adjacent : getAdjacentNodesOf(node))
+            action.accept(adjacent);
+    }
+
+    /**
+     * Calls the action with the index of every node linked with an ingoing
+     * edge of the node at the passed index.
+     *
+     * @param nodeIndex the index of the node
+     * @param action    the action called for every predecessor node index
+     * @throws IndexOutOfBoundsException if the index goes outside the
+     *                                   interval of 0 and the number of nodes-1.
+     * @throws NullPointerException      if the action is null
+     */
+    default void forEachPredecessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (GraphNode<L> node : getPredecessorNodesOf(getNodeAtIndex(nodeIndex)))
+            action.accept(getNodeIndexOf(node.getLabel()));
+    }
+
+    /**
+     * Calls the action with every node linked with an ingoing edge of the
+     * passed node.
+     *
+     * @param node   the node
+     * @param action the action called for every predecessor node
+     * @throws IllegalArgumentException if the node doesn't exist
+     * @throws NullPointerException     if the node or the action are null
+     */
+    default void forEachPredecessor(GraphNode<L> node, Consumer<GraphNode<L>> action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        for (GraphNode<L> predecessor : getPredecessorNodesOf(node))
+            action.accept(predecessor);
+    }
+
     /**
      * Returns all the nodes linked with an ingoing edge of the passed node.
      *
@@ -163,6 +253,26 @@ import java.util.Set;
      */
     boolean addEdge(GraphEdge<L> edge);
 
+    /**
+     * Adds all the passed edges.
+     *
+     * @param edges The edges to insert.
+     * @return true if at least one edge was inserted, false if they all
+     * already existed.
+     * @throws NullPointerException     if the collection or one of its edges
+     *                                  is null.
+     * @throws IllegalArgumentException if one of the node an edge link is not
+     *                                  in the graph
+     */
+    default boolean addEdges(Collection<GraphEdge<L>> edges) {
+        if (edges == null)
+            throw new NullPointerException("Edges are null");
+        boolean added = false;
+        for (GraphEdge<L> edge : edges)
+            added |= addEdge(edge);
+        return added;
+    }
+
     /**
      * Removes an edge.
      *
@@ -207,6 +317,18 @@ import java.util.Set;
     Set<GraphEdge<L>> getIngoingEdgesOf(GraphNode<L> node);
 
 
+    /**
+     * Returns a read-only snapshot of the graph. Every node keeps its index,
+     * later changes to this graph are not seen by the snapshot, and the
+     * snapshot can be shared and read by many threads without any locking.
+     *
+     * @return a read-only snapshot of the graph.
+     * @throws IllegalArgumentException if the graph is undirected.
+     */
+    default Graph<L> freeze() {
+        return CompressedSparseRowGraph.copyOf(this);
+    }
+
     default int size() {
         return this.nodeCount() + this.edgeCount();
     }
@@ -218,12 +340,37 @@ import java.util.Set;
     }
 
 
+    /**
+     * Returns the number of edges leaving the passed node. For an undirected
+     * graph these are all the edges connected to the node.
+     *
+     * @param node the node
+     * @return the number of edges leaving the passed node.
+     * @throws IllegalArgumentException if the node doesn't exist
+     * @throws NullPointerException     if the node is null
+     */
+    default int outDegree(GraphNode<L> node) {
+        return this.getEdgesOf(node).size();
+    }
+
+    /**
+     * Returns the number of edges entering the passed node. For an undirected
+     * graph these are all the edges connected to the node.
+     *
+     * @param node the node
+     * @return the number of edges entering the passed node.
+     * @throws IllegalArgumentException if the node doesn't exist
+     * @throws NullPointerException     if the node is null
+     */
+    default int inDegree(GraphNode<L> node) {
+        return this.getIngoingEdgesOf(node).size();
+    }
+
     default int getDegreeOf(GraphNode<L> node) {
         if (!this.isDirected())
-            return this.getEdgesOf(node).size();
+            return this.outDegree(node);
         else
-            return this.getEdgesOf(node).size()
-                    + this.getIngoingEdgesOf(node).size();
+            return this.outDegree(node) + this.inDegree(node);
     }
 }
 
@@ -0,0 +1,284 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.graph;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.nio.IntBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/*
+ * Read-only graph read straight from a file mapped by Vector2GraphFile. Only
+ * absolute reads are done on the buffer, so it can be shared between threads.
+ * The indexes are the ones of the file, not the ones of the written graph.
+ */
+final class MappedVector2Graph implements Graph<Vector2> {
+    private final IntBuffer file;
+    private final int nodeCount;
+    private final int edgeCount;
+    private final int offsets;
+    private final int targets;
+    private final int inOffsets;
+    private final int sources;
+
+    MappedVector2Graph(IntBuffer file, int nodeCount, int edgeCount) {
+        this.file = file;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.offsets = Vector2GraphFile.HEADER_INTS + 2 * nodeCount;
+        this.targets = offsets + nodeCount + 1;
+        this.inOffsets = targets + edgeCount;
+        this.sources = inOffsets + nodeCount + 1;
+    }
+
+    @Override
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    @Override
+    public Set<GraphNode<Vector2>> getNodes() {
+        Set<GraphNode<Vector2>> nodes = new HashSet<>();
+        for (int i = 0; i < nodeCount; i++) nodes.add(nodeAt(i));
+        return nodes;
+    }
+
+    @Override
+    public boolean addNode(GraphNode<Vector2> node) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean removeNode(GraphNode<Vector2> node) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean containsNode(GraphNode<Vector2> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        return search(node.getLabel()) >= 0;
+    }
+
+    @Override
+    public GraphNode<Vector2> getNodeOf(Vector2 label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        return search(label) >= 0 ? new GraphNode<>(label) : null;
+    }
+
+    @Override
+    public int getNodeIndexOf(Vector2 label) {
+        if (label == null)
+            throw new NullPointerException("Label is null");
+        int index = search(label);
+        if (index < 0)
+            throw new IllegalArgumentException("The node of the label passed as" +
+                    " parameter doesn't exist");
+        return index;
+    }
+
+    @Override
+    public GraphNode<Vector2> getNodeAtIndex(int i) {
+        return nodeAt(checkIndex(i));
+    }
+
+    @Override
+    public Set<GraphNode<Vector2>> getAdjacentNodesOf(GraphNode<Vector2> node) {
+        Set<GraphNode<Vector2>> adjacentNodes = new HashSet<>();
+        forEachSuccessor(indexOfExisting(node), j -> adjacentNodes.add(nodeAt(j)));
+        return adjacentNodes;
+    }
+
+    @Override
+    public Set<GraphNode<Vector2>> getPredecessorNodesOf(GraphNode<Vector2> node) {
+        Set<GraphNode<Vector2>> predecessorNodes = new HashSet<>();
+        forEachPredecessor(indexOfExisting(node), j -> predecessorNodes.add(nodeAt(j)));
+        return predecessorNodes;
+    }
+
+    @Override
+    public void forEachSuccessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        checkIndex(nodeIndex);
+        for (int j = file.get(offsets + nodeIndex); j < file.get(offsets + nodeIndex + 1); j++)
+            action.accept(file.get(targets + j));
+    }
+
+    @Override
+    public void forEachSuccessor(GraphNode<Vector2> node, Consumer<GraphNode<Vector2>> action) {
+        int nodeIndex = indexOfExisting(node);
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        forEachSuccessor(nodeIndex, j -> action.accept(nodeAt(j)));
+    }
+
+    @Override
+    public void forEachPredecessor(int nodeIndex, IntConsumer action) {
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        checkIndex(nodeIndex);
+        for (int j = file.get(inOffsets + nodeIndex); j < file.get(inOffsets + nodeIndex + 1); j++)
+            action.accept(file.get(sources + j));
+    }
+
+    @Override
+    public void forEachPredecessor(GraphNode<Vector2> node, Consumer<GraphNode<Vector2>> action) {
+        int nodeIndex = indexOfExisting(node);
+        if (action == null)
+            throw new NullPointerException("Action is null");
+        forEachPredecessor(nodeIndex, j -> action.accept(nodeAt(j)));
+    }
+
+    @Override
+    public Set<GraphEdge<Vector2>> getEdges() {
+        Set<GraphEdge<Vector2>> edgeSet = new HashSet<>();
+        for (int i = 0; i < nodeCount; i++) edgeSet.addAll(getEdgesOf(nodeAt(i)));
+        return edgeSet;
+    }
+
+    @Override
+    public boolean addEdge(GraphEdge<Vector2> edge) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean removeEdge(GraphEdge<Vector2> edge) {
+        throw new UnsupportedOperationException("The graph is read-only");
+    }
+
+    @Override
+    public boolean containsEdge(GraphEdge<Vector2> edge) {
+        if (edge == null)
+            throw new NullPointerException("Edge is null");
+        int index1 = search(edge.getNode1().getLabel());
+        int index2 = search(edge.getNode2().getLabel());
+        if (index1 < 0 || index2 < 0)
+            throw new IllegalArgumentException(
+                    "One of the nodes the edge is linked to doesn't exist.");
+
+        int low = file.get(offsets + index1);
+        int high = file.get(offsets + index1 + 1) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int target = file.get(targets + middle);
+            if (target == index2) return true;
+            if (target < index2) low = middle + 1;
+            else high = middle - 1;
+        }
+        return false;
+    }
+
+    @Override
+    public int outDegree(GraphNode<Vector2> node) {
+        int nodeIndex = indexOfExisting(node);
+        return file.get(offsets + nodeIndex + 1) - file.get(offsets + nodeIndex);
+    }
+
+    @Override
+    public int inDegree(GraphNode<Vector2> node) {
+        int nodeIndex = indexOfExisting(node);
+        return file.get(inOffsets + nodeIndex + 1) - file.get(inOffsets + nodeIndex);
+    }
+
+    @Override
+    public Set<GraphEdge<Vector2>> getEdgesOf(GraphNode<Vector2> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphEdge<Vector2>> edgesOf = new HashSet<>();
+        GraphNode<Vector2> source = nodeAt(nodeIndex);
+        forEachSuccessor(nodeIndex, j -> edgesOf.add(new GraphEdge<>(source, nodeAt(j), true)));
+        return edgesOf;
+    }
+
+    @Override
+    public Set<GraphEdge<Vector2>> getIngoingEdgesOf(GraphNode<Vector2> node) {
+        int nodeIndex = indexOfExisting(node);
+        Set<GraphEdge<Vector2>> ingoingEdges = new HashSet<>();
+        GraphNode<Vector2> target = nodeAt(nodeIndex);
+        forEachPredecessor(nodeIndex, j -> ingoingEdges.add(new GraphEdge<>(nodeAt(j), target, true)));
+        return ingoingEdges;
+    }
+
+    @Override
+    public Graph<Vector2> freeze() {
+        return this;
+    }
+
+    private GraphNode<Vector2> nodeAt(int i) {
+        int position = Vector2GraphFile.HEADER_INTS + 2 * i;
+        return new GraphNode<>(new Vector2(file.get(position), file.get(position + 1)));
+    }
+
+    // Binary search on the nodes, that are sorted by x and then y.
+    private int search(Vector2 label) {
+        int low = 0;
+        int high = nodeCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int position = Vector2GraphFile.HEADER_INTS + 2 * middle;
+            int compare = Integer.compare(file.get(position), label.x());
+            if (compare == 0) compare = Integer.compare(file.get(position + 1), label.y());
+            if (compare == 0) return middle;
+            if (compare < 0) low = middle + 1;
+            else high = middle - 1;
+        }
+        return -1;
+    }
+
+    private int checkIndex(int i) {
+        if (i > nodeCount - 1 || i < 0)
+            throw new IndexOutOfBoundsException("The index goes beyond the " +
+                    "limit of [0, node count-1]");
+        return i;
+    }
+
+    private int indexOfExisting(GraphNode<Vector2> node) {
+        if (node == null)
+            throw new NullPointerException("Node is null");
+        int index = search(node.getLabel());
+        if (index < 0)
+            throw new IllegalArgumentException("The node doesn't exist");
+        return index;
+    }
+}
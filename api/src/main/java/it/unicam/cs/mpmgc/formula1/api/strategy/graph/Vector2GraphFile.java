@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.graph;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Saves a {@code Graph<Vector2>} in a compact binary file, and opens it again
+ * by mapping the file in memory. A mapped graph is read straight from the
+ * file, so opening it takes no time no matter its size, and every process
+ * mapping the same file shares the same pages of memory.
+ * <p>
+ * The file is made of little endian ints: a header with a magic number, the
+ * version, the number of nodes and the number of edges, followed by the x and
+ * y of every node sorted by x and then y, and lastly the offsets and indexes
+ * of the successors and of the predecessors in compressed sparse row form,
+ * like in {@link CompressedSparseRowGraph}.
+ * <p>
+ * The nodes are indexed again in the order of the file, so the graph read
+ * back has the same nodes and edges as the written one, but not the same
+ * indexes: nodes must be looked up by label. This is a standalone utility
+ * for graphs of positions, for example to build a graph of a track once and
+ * open it from many processes. The strategies don't use it: their graphs are
+ * of {@code CarState} and live only in memory.
+ */
+public final class Vector2GraphFile {
+    static final int MAGIC = 0x46314752;
+    static final int VERSION = 1;
+    static final int HEADER_INTS = 4;
+
+    private Vector2GraphFile() {}
+
+    /**
+     * Writes the graph in the file at the passed path, replacing it if it
+     * already exists.
+     *
+     * @param graph the directed graph to write
+     * @param path  the path of the file
+     * @throws IOException              if the file can't be written.
+     * @throws NullPointerException     if the graph or the path are null.
+     * @throws IllegalArgumentException if the graph is undirected or too big
+     *                                  for a single file mapping.
+     */
+    public static void write(Graph<Vector2> graph, Path path) throws IOException {
+        if (graph == null) throw new NullPointerException("Graph is null");
+        if (path == null) throw new NullPointerException("Path is null");
+        Graph<Vector2> frozen = graph.freeze();
+
+        int n = frozen.nodeCount();
+        int e = frozen.edgeCount();
+        long ints = HEADER_INTS + 2L * n + 2L * (n + 1) + 2L * e;
+        if (ints * Integer.BYTES > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The graph is too big to be " +
+                    "written in a single file");
+
+        // Nodes are written sorted, so a label can be found by binary search.
+        int[] order = IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparing(i -> frozen.getNodeAtIndex(i).getLabel(),
+                        Comparator.comparingInt(Vector2::x).thenComparingInt(Vector2::y)))
+                .mapToInt(Integer::intValue).toArray();
+        int[] newIndex = new int[n];
+        for (int i = 0; i < n; i++) newIndex[order[i]] = i;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE,
+                    0, ints * Integer.BYTES);
+            IntBuffer file = buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            file.put(MAGIC).put(VERSION).put(n).put(e);
+            for (int i : order) {
+                Vector2 label = frozen.getNodeAtIndex(i).getLabel();
+                file.put(label.x()).put(label.y());
+            }
+            writeRows(file, frozen, order, newIndex, true);
+            writeRows(file, frozen, order, newIndex, false);
+            buffer.force();
+        }
+    }
+
+    private static void writeRows(IntBuffer file, Graph<Vector2> graph,
+                                  int[] order, int[] newIndex, boolean successors) {
+        Row row = new Row(newIndex);
+        int offset = 0;
+        int offsetsStart = file.position();
+        int rowsStart = offsetsStart + order.length + 1;
+        for (int i = 0; i < order.length; i++) {
+            row.size = 0;
+            if (successors) graph.forEachSuccessor(order[i], row);
+            else graph.forEachPredecessor(order[i], row);
+            Arrays.sort(row.nodes, 0, row.size);
+
+            file.put(offsetsStart + i, offset);
+            for (int j = 0; j < row.size; j++) file.put(rowsStart + offset + j, row.nodes[j]);
+            offset += row.size;
+        }
+        file.put(offsetsStart + order.length, offset);
+        file.position(rowsStart + offset);
+    }
+
+    // Collects the neighbours of a node with their index in the file.
+    private static final class Row implements IntConsumer {
+        private final int[] newIndex;
+        private int[] nodes = new int[16];
+        private int size;
+
+        private Row(int[] newIndex) {
+            this.newIndex = newIndex;
+        }
+
+        @Override
+        public void accept(int j) {
+            if (size == nodes.length) nodes = Arrays.copyOf(nodes, size * 2);
+            nodes[size++] = newIndex[j];
+        }
+    }
+
+    /**
+     * Opens a graph written with {@link #write(Graph, Path)} by mapping its
+     * file in memory. The returned graph is read-only and can be read by many
+     * threads at once.
+     *
+     * @param path the path of the file
+     * @return the graph saved in the file.
+     * @throws IOException              if the file can't be read.
+     * @throws NullPointerException     if the path is null.
+     * @throws IllegalArgumentException if the file is not a graph file.
+     */
+    public static Graph<Vector2> map(Path path) throws IOException {
+        if (path == null) throw new NullPointerException("Path is null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_INTS * Integer.BYTES || size > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("The file is not a graph file");
+
+            IntBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            if (file.get(0) != MAGIC || file.get(1) != VERSION)
+                throw new IllegalArgumentException("The file is not a graph file");
+            int n = file.get(2);
+            int e = file.get(3);
+            if (n < 0 || e < 0 || file.limit()
+                    != HEADER_INTS + 2L * n + 2L * (n + 1) + 2L * e)
+                throw new IllegalArgumentException("The graph file is truncated");
+            return new MappedVector2Graph(file, n, e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The distance of every road position of a {@link Track} from its nearest
+ * victory position. The distance is the number of steps to one of the eight
+ * neighbouring positions without a wall needed to reach a victory. Since a car
+ * can fly over the positions outside the road but never through a wall, and
+ * every position crossed by a move is next to the previous one, the distance
+ * is never more than the number of positions crossed by any path going to a
+ * victory.
+ * <p>
+ * The distances are computed once for every track instance, with a single
+ * breadth first search starting from every victory at once, and then shared
+ * by everything asking for the same track.
+ */
+public final class DistanceField {
+    /**
+     * Distance of the positions that can't reach any victory.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final Map<Track<?>, DistanceField> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int width;
+    private final int height;
+    private final int[] distances;
+
+    private DistanceField(Track<?> track) {
+        this.width = track.getWidth();
+        this.height = track.getHeight();
+        this.distances = new int[width * height];
+        Arrays.fill(distances, UNREACHABLE);
+
+        int[] queue = new int[distances.length];
+        int head = 0;
+        int tail = 0;
+        List<Vector2> victories = track.getAllPositionsOfElement(TrackElement.VICTORY);
+        for (Vector2 victory : victories) {
+            int cell = victory.y() * width + victory.x();
+            if (distances[cell] == UNREACHABLE) {
+                distances[cell] = 0;
+                queue[tail++] = cell;
+            }
+        }
+
+        boolean[] road = new boolean[distances.length];
+        boolean[] passable = new boolean[distances.length];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Vector2 pos = new Vector2(x, y);
+                road[y * width + x] = track.isPositionInsideRoad(pos);
+                passable[y * width + x] = track.isPositionValid(pos);
+            }
+        }
+        for (Vector2 wall : track.getAllPositionsOfElement(TrackElement.WALL))
+            passable[wall.y() * width + wall.x()] = false;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            for (int ny = Math.max(0, y - 1); ny <= Math.min(height - 1, y + 1); ny++) {
+                for (int nx = Math.max(0, x - 1); nx <= Math.min(width - 1, x + 1); nx++) {
+                    int next = ny * width + nx;
+                    if (!passable[next] || distances[next] != UNREACHABLE) continue;
+                    distances[next] = distances[cell] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        for (int cell = 0; cell < distances.length; cell++)
+            if (!road[cell]) distances[cell] = UNREACHABLE;
+    }
+
+    /**
+     * Returns the distance field of the track passed as parameter. It's
+     * computed the first time it's asked for a track, and then the same one is
+     * returned until the track is no longer used.
+     * @param track the track.
+     * @return the distance field of the track.
+     */
+    public static DistanceField of(Track<?> track) {
+        if (track == null) throw new NullPointerException("Track is null");
+        return CACHE.computeIfAbsent(track, DistanceField::new);
+    }
+
+    /**
+     * Returns the distance of the position passed as parameter from the
+     * nearest victory, or {@link #UNREACHABLE} if the position is not inside
+     * the road or no victory can be reached from it.
+     * @param x the x of the position.
+     * @param y the y of the position.
+     * @return the distance from the nearest victory.
+     */
+    public int distance(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return UNREACHABLE;
+        return distances[y * width + x];
+    }
+
+    /**
+     * Returns the distance of the position passed as parameter from the
+     * nearest victory, or {@link #UNREACHABLE} if the position is not inside
+     * the road or no victory can be reached from it.
+     * @param pos the position.
+     * @return the distance from the nearest victory.
+     */
+    public int distance(Vector2 pos) {
+        if (pos == null) throw new NullPointerException("Position is null");
+        return distance(pos.x(), pos.y());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The road and the walls of a {@link Track} as flat arrays of cells, to check
+ * many moves without creating any object. A move crashes exactly when
+ * {@link Track#hasEntityCrashed(Vector2, Vector2)} says so: when it ends
+ * outside the road, or when the segment it covers goes through a wall. The
+ * positions outside the track count as walls.
+ * <p>
+ * The cells are read once for every track instance, and then shared by
+ * everything asking for the same track.
+ */
+public final class RoadGrid {
+    private static final Map<Track<?>, RoadGrid> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final int width;
+    private final int height;
+    private final boolean[] road;
+    private final boolean[] walls;
+
+    private RoadGrid(Track<?> track) {
+        this.width = track.getWidth();
+        this.height = track.getHeight();
+        this.road = new boolean[width * height];
+        this.walls = new boolean[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Vector2 pos = new Vector2(x, y);
+                road[y * width + x] = track.isPositionInsideRoad(pos);
+                walls[y * width + x] = !track.isPositionValid(pos);
+            }
+        }
+        for (Vector2 wall : track.getAllPositionsOfElement(TrackElement.WALL))
+            walls[wall.y() * width + wall.x()] = true;
+    }
+
+    /**
+     * Returns the grid of the track passed as parameter.
+     * @param track the track.
+     * @return the grid of the track.
+     * @throws NullPointerException if the track is null.
+     */
+    public static RoadGrid of(Track<?> track) {
+        if (track == null) throw new NullPointerException("Track is null");
+        return CACHE.computeIfAbsent(track, RoadGrid::new);
+    }
+
+    /**
+     * Returns true if the position passed as parameter is inside the road.
+     * @param x the column of the position.
+     * @param y the row of the position.
+     * @return true if the position is inside the road, false otherwise.
+     */
+    public boolean isInsideRoad(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return road[y * width + x];
+    }
+
+    /**
+     * Returns true if moving from the first position to the second one is a
+     * crash. The segment between them is walked with the same Bresenham
+     * algorithm as {@link Vector2#getAllVecsOfSegment(Vector2, Vector2)}.
+     * @param x0 the column of the start.
+     * @param y0 the row of the start.
+     * @param x1 the column of the end.
+     * @param y1 the row of the end.
+     * @return true if the move is a crash, false otherwise.
+     */
+    public boolean hasCrashed(int x0, int y0, int x1, int y1) {
+        if (!isInsideRoad(x1, y1)) return true;
+
+        int dx = Math.abs(x1 - x0);
+        int sx = (x0 < x1) ? 1 : -1;
+        int dy = -Math.abs(y1 - y0);
+        int sy = (y0 < y1) ? 1 : -1;
+        int error = dx + dy;
+
+        while (true) {
+            if (isWall(x0, y0)) return true;
+            int e2 = 2 * error;
+
+            if (e2 >= dy) {
+                if (x0 == x1) break;
+                error += dy;
+                x0 += sx;
+            }
+            if (e2 <= dx) {
+                if (y0 == y1) break;
+                error += dx;
+                y0 += sy;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWall(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return true;
+        return walls[y * width + x];
+    }
+}
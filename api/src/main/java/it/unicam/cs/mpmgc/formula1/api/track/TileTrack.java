@@ -65,6 +65,18 @@ public class TileTrack implements Track<List<Tile>>{
         return true;
     }
 
+    @Override
+    public int getWidth() {
+        int width = 0;
+        for (List<Tile> row : track) width = Math.max(width, row.size());
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return track.size();
+    }
+
     @Override
     public boolean isPositionInsideRoad(Vector2 pos) {
         if(pos == null) throw new NullPointerException("Position is null");
@@ -56,6 +56,20 @@ public interface Track<T> {
      */
     boolean isPositionValid(Vector2 pos);
 
+    /**
+     * Returns the width of the Track, that is the length of its longest row.
+     * Every valid position has an x lower than the width.
+     * @return the width of the Track.
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the Track, that is the number of its rows. Every
+     * valid position has a y lower than the height.
+     * @return the height of the Track.
+     */
+    int getHeight();
+
     /**
      * Checks if a position is inside the Road of the Track. "Inside" means being
      * inside the walls of the track. If the position is on a wall for example,
@@ -27,11 +27,14 @@ package it.unicam.cs.mpmgc.formula1.api.handler;
 import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
 import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
 import it.unicam.cs.mpmgc.formula1.api.file.FileLoader;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -81,4 +84,23 @@ public class CarEntityHandlerTest {
         CarEntityHandler e = new CarEntityHandler(f);
         assertThrows(IllegalArgumentException.class, e::handle);
     }
+
+    @Test
+    void TestSameSeedSameMoves() throws FileNotFoundException {
+        File f = FileLoader.load("raceConfigTest1.txt");
+        Track<?> track = new TileTrackHandler(f).handle();
+        List<Entity> entities1 = new CarEntityHandler(f, new SplittableRandom(42)).handle();
+        List<Entity> entities2 = new CarEntityHandler(f, new SplittableRandom(42)).handle();
+        SimulationInfo sim1 = new SimulationInfo(track, entities1, null);
+        SimulationInfo sim2 = new SimulationInfo(track, entities2, null);
+
+        for (int moves = 0; moves < 20; moves++) {
+            for (int i = 0; i < entities1.size(); i++) {
+                entities1.get(i).nextMove(sim1);
+                entities2.get(i).nextMove(sim2);
+                assertEquals(entities1.get(i).getPosition(), entities2.get(i).getPosition());
+            }
+        }
+        assertThrows(NullPointerException.class, () -> new CarEntityHandler(f, null));
+    }
 }
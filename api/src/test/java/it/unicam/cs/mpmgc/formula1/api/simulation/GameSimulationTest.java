@@ -25,12 +25,28 @@
 package it.unicam.cs.mpmgc.formula1.api.simulation;
 
 import it.unicam.cs.mpmgc.formula1.api.configurator.FileGameConfigurator;
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
 import it.unicam.cs.mpmgc.formula1.api.file.FileLoader;
+import it.unicam.cs.mpmgc.formula1.api.strategy.BatchStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.BFSStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.CarState;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.track.Tile;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.ui.UserInterface;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Stack;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.buildTrack;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class GameSimulationTest {
 
@@ -42,4 +58,113 @@ public class GameSimulationTest {
         assertNotNull(sim);
     }
 
+    @Test
+    void GameSimulationWarmUpTest() throws InterruptedException {
+        File f = FileLoader.load("raceConfigTest6.txt");
+        FileGameConfigurator conf = new FileGameConfigurator(f);
+        GameSimulation sim = (GameSimulation) conf.configure(1);
+        List<Entity> prepared = new ArrayList<>();
+        List<Integer> progress = new ArrayList<>();
+        sim.warmUp(4, (entity, ready) -> {
+            prepared.add(entity);
+            progress.add(ready);
+        });
+        // The bfs, astar and dstar bots.
+        assertEquals(3, prepared.size());
+        assertEquals(prepared.size(), Set.copyOf(prepared).size());
+        for (int i = 0; i < progress.size(); i++) assertEquals(i + 1, progress.get(i).intValue());
+
+        assertThrows(IllegalArgumentException.class, () -> sim.warmUp(0));
+        assertThrows(NullPointerException.class, () -> sim.warmUp(1, null));
+    }
+
+    @Test
+    void GameSimulationWarmUpPlanTest() throws InterruptedException {
+        Track<List<Tile>> track = buildTrack("#######", "#^...-#", "#######");
+        CountingBFSStrategy strategy = new CountingBFSStrategy();
+        CarEntity car = new CarEntity(new Vector2(0, 0), 'A', strategy);
+        GameSimulation sim = new GameSimulation(track, List.of(car), new SilentUserInterface(), 0);
+        sim.warmUp(1);
+        assertEquals(1, strategy.searches);
+
+        // The first move follows the plan made while warming up.
+        car.nextMove(new SimulationInfo(track, List.of(car), new SilentUserInterface()));
+        assertEquals(1, strategy.searches);
+        assertNotEquals(new Vector2(1, 1), car.getPosition());
+    }
+
+    /*
+     * Counts the searches, to tell a move planned before from a new one. With
+     * a budget the plans aren't shared, so every plan is a search.
+     */
+    private static final class CountingBFSStrategy extends BFSStrategy {
+        private int searches;
+
+        private CountingBFSStrategy() {
+            super(1 << 16, Duration.ofMinutes(1));
+        }
+
+        @Override
+        protected Stack<CarState> traverse(Graph<CarState> graph, CarState start, List<Vector2> victories) {
+            searches++;
+            return super.traverse(graph, start, victories);
+        }
+    }
+
+    // Never waits for the user, and shows nothing.
+    private static final class SilentUserInterface implements UserInterface {
+        @Override
+        public void updateUI(Track track, List<? extends Entity> entities) { }
+
+        @Override
+        public void checkForNextStep() { }
+
+        @Override
+        public boolean checkForAutomatic() {
+            return true;
+        }
+
+        @Override
+        public void showAfterUpdate(String string) { }
+    }
+
+    // Goes right, slowing down to stop on the finish line at x = 5.
+    private static final class CountingBatchStrategy implements BatchStrategy {
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        @Override
+        public Vector2 decideNextMove(Vector2[] possiblePositions, Entity thisEntity, SimulationInfo sim) {
+            return fail("The cars must be moved in a batch");
+        }
+
+        @Override
+        public Vector2[] decideNextMoves(List<? extends Entity> entities, SimulationInfo sim) {
+            batchSizes.add(entities.size());
+            Vector2[] moves = new Vector2[entities.size()];
+            for (int i = 0; i < moves.length; i++) {
+                Entity entity = entities.get(i);
+                int speed = entity.getAcceleration().x();
+                int wanted = Math.max(speed - 1, Math.min(speed + 1, 5 - entity.getPosition().x()));
+                moves[i] = new Vector2(wanted, 0);
+            }
+            return moves;
+        }
+    }
+
+    @Test
+    void GameSimulationBatchTest() throws InterruptedException {
+        Track<List<Tile>> track = buildTrack("#######", "#^...-#", "#^...-#", "#######");
+        CountingBatchStrategy strategy = new CountingBatchStrategy();
+        CarEntity a = new CarEntity(new Vector2(0, 0), 'A', strategy);
+        CarEntity b = new CarEntity(new Vector2(0, 0), 'B', strategy);
+        GameSimulation sim = new GameSimulation(track, List.of(a, b),
+                new SilentUserInterface(), 0);
+        sim.start();
+
+        // 1 + 2 + 1 cells: A wins at the third round, before B moves.
+        assertEquals(new Vector2(5, 1), a.getPosition());
+        assertEquals(new Vector2(4, 2), b.getPosition());
+        assertEquals(List.of(2, 2, 2), strategy.batchSizes);
+        assertThrows(IllegalArgumentException.class, () -> b.applyMove(new Vector2(5, 0)));
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.AdjacencyMatrixDirectedGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.BitMatrixDirectedGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphEdge;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitMatrixDirectedGraphTest {
+    @Test
+    final void testNodesAndEdges() {
+        Graph<String> g = new BitMatrixDirectedGraph<>();
+        assertTrue(g.isEmpty());
+        assertThrows(NullPointerException.class, () -> g.addNode(null));
+        GraphNode<String> ns = new GraphNode<>("s");
+        GraphNode<String> nu = new GraphNode<>("u");
+        assertTrue(g.addNode(ns));
+        assertFalse(g.addNode(new GraphNode<>("s")));
+        assertThrows(IllegalArgumentException.class,
+                () -> g.addEdge(new GraphEdge<>(ns, nu, true)));
+        g.addNode(nu);
+        assertThrows(IllegalArgumentException.class,
+                () -> g.addEdge(new GraphEdge<>(ns, nu, false)));
+        assertTrue(g.addEdge(new GraphEdge<>(ns, nu, true)));
+        assertFalse(g.addEdge(new GraphEdge<>(ns, nu, true)));
+        assertTrue(g.containsEdge(new GraphEdge<>(ns, nu, true)));
+        assertFalse(g.containsEdge(new GraphEdge<>(nu, ns, true)));
+        assertEquals(1, g.edgeCount());
+        assertEquals(3, g.size());
+        assertEquals(Set.of(new GraphEdge<>(ns, nu, true)), g.getEdges());
+        assertEquals(Set.of(nu), g.getAdjacentNodesOf(ns));
+        assertEquals(Set.of(ns), g.getPredecessorNodesOf(nu));
+        assertTrue(g.removeEdge(new GraphEdge<>(ns, nu, true)));
+        assertFalse(g.removeEdge(new GraphEdge<>(ns, nu, true)));
+        assertEquals(0, g.edgeCount());
+        g.clear();
+        assertTrue(g.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> g.getNodeAtIndex(0));
+    }
+
+    @Test
+    final void testRemoveNodeEffectOnIndexes() {
+        Graph<String> g = new BitMatrixDirectedGraph<>();
+        GraphNode<String> nodeA = new GraphNode<>("A");
+        GraphNode<String> nodeB = new GraphNode<>("B");
+        GraphNode<String> nodeC = new GraphNode<>("C");
+        g.addNode(nodeA);
+        g.addNode(nodeB);
+        g.addNode(nodeC);
+        g.addEdge(new GraphEdge<>(nodeC, nodeC, true));
+        g.addEdge(new GraphEdge<>(nodeA, nodeC, true));
+        g.addEdge(new GraphEdge<>(nodeC, nodeB, true));
+
+        assertTrue(g.removeNode(nodeA));
+        assertFalse(g.removeNode(nodeA));
+        assertEquals(0, g.getNodeIndexOf("C"));
+        assertEquals(1, g.getNodeIndexOf("B"));
+        assertEquals(2, g.edgeCount());
+        assertTrue(g.containsEdge(new GraphEdge<>(nodeC, nodeC, true)));
+        assertTrue(g.containsEdge(new GraphEdge<>(nodeC, nodeB, true)));
+        assertEquals(Set.of(nodeC), g.getPredecessorNodesOf(nodeC));
+    }
+
+    // The moved node has a self-loop and is in a later word than the removed one.
+    @Test
+    final void testRemoveNodeMovesSelfLoop() {
+        Graph<Integer> g = new BitMatrixDirectedGraph<>();
+        List<GraphNode<Integer>> nodes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) nodes.add(new GraphNode<>(i));
+        g.addNodes(nodes);
+        g.addEdge(new GraphEdge<>(nodes.get(99), nodes.get(99), true));
+        g.addEdge(new GraphEdge<>(nodes.get(99), nodes.get(5), true));
+
+        assertTrue(g.removeNode(nodes.get(0)));
+        assertEquals(0, g.getNodeIndexOf(99));
+        assertEquals(2, g.edgeCount());
+        assertTrue(g.containsEdge(new GraphEdge<>(nodes.get(99), nodes.get(99), true)));
+        assertEquals(Set.of(nodes.get(99), nodes.get(5)), g.getAdjacentNodesOf(nodes.get(99)));
+        assertEquals(Set.of(nodes.get(99)), g.getPredecessorNodesOf(nodes.get(99)));
+        assertEquals(Set.of(nodes.get(99)), g.getPredecessorNodesOf(nodes.get(5)));
+    }
+
+    @Test
+    final void testAddNodes() {
+        Graph<Integer> g = new BitMatrixDirectedGraph<>(10, 0);
+        List<GraphNode<Integer>> nodes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) nodes.add(new GraphNode<>(i));
+        assertTrue(g.addNodes(nodes));
+        assertFalse(g.addNodes(nodes));
+        assertEquals(200, g.nodeCount());
+        assertTrue(g.addEdge(new GraphEdge<>(nodes.get(3), nodes.get(199), true)));
+        assertEquals(Set.of(nodes.get(3)), g.getPredecessorNodesOf(nodes.get(199)));
+    }
+
+    // Compares random operations on more than 64 nodes with the matrix graph.
+    @Test
+    final void testSameBehaviourOfAdjacencyMatrix() {
+        Graph<Integer> bits = new BitMatrixDirectedGraph<>();
+        Graph<Integer> matrix = new AdjacencyMatrixDirectedGraph<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 150; i++) {
+            bits.addNode(new GraphNode<>(i));
+            matrix.addNode(new GraphNode<>(i));
+        }
+        for (int step = 0; step < 3000; step++) {
+            GraphNode<Integer> n1 = new GraphNode<>(random.nextInt(150));
+            GraphNode<Integer> n2 = new GraphNode<>(random.nextInt(150));
+            if (!matrix.containsNode(n1) || !matrix.containsNode(n2)) {
+                assertEquals(matrix.addNode(n1), bits.addNode(n1));
+                continue;
+            }
+            GraphEdge<Integer> edge = new GraphEdge<>(n1, n2, true);
+            switch (random.nextInt(10)) {
+                case 0 -> assertEquals(matrix.removeNode(n1), bits.removeNode(n1));
+                case 1, 2 -> assertEquals(matrix.removeEdge(edge), bits.removeEdge(edge));
+                default -> assertEquals(matrix.addEdge(edge), bits.addEdge(edge));
+            }
+        }
+        assertEquals(matrix.nodeCount(), bits.nodeCount());
+        assertEquals(matrix.edgeCount(), bits.edgeCount());
+        assertEquals(matrix.getEdges(), bits.getEdges());
+        for (GraphNode<Integer> node : matrix.getNodes()) {
+            assertEquals(matrix.getAdjacentNodesOf(node), bits.getAdjacentNodesOf(node));
+            assertEquals(matrix.getPredecessorNodesOf(node), bits.getPredecessorNodesOf(node));
+            assertEquals(matrix.outDegree(node), bits.outDegree(node));
+            assertEquals(matrix.inDegree(node), bits.inDegree(node));
+            assertEquals(node, bits.getNodeAtIndex(bits.getNodeIndexOf(node.getLabel())));
+        }
+    }
+}
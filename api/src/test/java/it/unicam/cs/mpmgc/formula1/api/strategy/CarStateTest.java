@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.CarState;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CarStateTest {
+    @Test
+    final void testPackAndUnpack() {
+        CarState state = new CarState(12, 7, -3, 2);
+        assertEquals(state, CarState.unpack(state.pack()));
+        assertEquals(state.pack(), CarState.pack(12, 7, -3, 2));
+
+        CarState limits = new CarState(Short.MAX_VALUE, Short.MIN_VALUE, -1, 0);
+        assertEquals(limits, CarState.unpack(limits.pack()));
+        assertNotEquals(new CarState(1, 2, 0, 0).pack(), new CarState(1, 2, 0, 1).pack());
+    }
+
+    @Test
+    final void testMove() {
+        CarState state = new CarState(new Vector2(4, 4), new Vector2(1, 0));
+        CarState next = state.move(new Vector2(2, -1));
+        assertEquals(new Vector2(6, 3), next.position());
+        assertEquals(new Vector2(2, -1), next.velocity());
+    }
+
+    @Test
+    final void testOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new CarState(1 << 16, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CarState(0, 0, 0, -40000));
+    }
+}
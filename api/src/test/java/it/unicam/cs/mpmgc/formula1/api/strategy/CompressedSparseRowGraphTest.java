@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.AdjacencyMatrixDirectedGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.CompressedSparseRowGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphEdge;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressedSparseRowGraphTest {
+    private final GraphNode<String> ns = new GraphNode<>("s");
+    private final GraphNode<String> nu = new GraphNode<>("u");
+    private final GraphNode<String> nx = new GraphNode<>("x");
+    private final GraphNode<String> ny = new GraphNode<>("y");
+    private final GraphNode<String> nw = new GraphNode<>("w");
+
+    // s -> u, s -> x, u -> x, x -> y, y -> s and the isolated node w.
+    private Graph<String> buildGraph() {
+        CompressedSparseRowGraph.Builder<String> builder =
+                new CompressedSparseRowGraph.Builder<>();
+        builder.addNode(ns);
+        builder.addNode(nu);
+        builder.addNode(nx);
+        builder.addNode(ny);
+        builder.addNode(nw);
+        builder.addEdge(new GraphEdge<>(ns, nu, true));
+        builder.addEdge(new GraphEdge<>(ns, nx, true));
+        builder.addEdge(new GraphEdge<>(nu, nx, true));
+        builder.addEdge(new GraphEdge<>(nx, ny, true));
+        builder.addEdge(new GraphEdge<>(ny, ns, true));
+        builder.addEdge(new GraphEdge<>(ns, nu, true));
+        return builder.build();
+    }
+
+    @Test
+    final void testEmptyGraph() {
+        Graph<String> g = new CompressedSparseRowGraph.Builder<String>().build();
+        assertTrue(g.isEmpty());
+        assertEquals(0, g.size());
+        assertTrue(g.getNodes().isEmpty());
+        assertTrue(g.getEdges().isEmpty());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> g.getNodeAtIndex(0));
+    }
+
+    @Test
+    final void testCounts() {
+        Graph<String> g = buildGraph();
+        assertEquals(5, g.nodeCount());
+        assertEquals(5, g.edgeCount());
+        assertEquals(10, g.size());
+        assertTrue(g.isDirected());
+        assertFalse(g.isEmpty());
+    }
+
+    @Test
+    final void testBuilder() {
+        CompressedSparseRowGraph.Builder<String> builder =
+                new CompressedSparseRowGraph.Builder<>();
+        assertThrows(NullPointerException.class, () -> builder.addNode(null));
+        assertTrue(builder.addNode(ns));
+        assertFalse(builder.addNode(new GraphNode<>("s")));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addEdge(new GraphEdge<>(ns, nu, true)));
+        builder.addNode(nu);
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addEdge(new GraphEdge<>(ns, nu, false)));
+        assertThrows(NullPointerException.class, () -> builder.addEdge(null));
+    }
+
+    @Test
+    final void testNodes() {
+        Graph<String> g = buildGraph();
+        Set<GraphNode<String>> testNodes = new HashSet<>();
+        testNodes.add(new GraphNode<>("s"));
+        testNodes.add(new GraphNode<>("u"));
+        testNodes.add(new GraphNode<>("x"));
+        testNodes.add(new GraphNode<>("y"));
+        testNodes.add(new GraphNode<>("w"));
+        assertEquals(testNodes, g.getNodes());
+        assertThrows(NullPointerException.class, () -> g.containsNode(null));
+        assertTrue(g.containsNode(new GraphNode<>("w")));
+        assertFalse(g.containsNode(new GraphNode<>("p")));
+    }
+
+    @Test
+    final void testIndexes() {
+        Graph<String> g = buildGraph();
+        assertThrows(NullPointerException.class, () -> g.getNodeOf(null));
+        assertEquals("u", g.getNodeOf("u").getLabel());
+        assertNull(g.getNodeOf("p"));
+        assertThrows(NullPointerException.class, () -> g.getNodeIndexOf(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> g.getNodeIndexOf("p"));
+        assertEquals(0, g.getNodeIndexOf("s"));
+        assertEquals(4, g.getNodeIndexOf("w"));
+        assertEquals(new GraphNode<>("x"), g.getNodeAtIndex(2));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> g.getNodeAtIndex(5));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> g.getNodeAtIndex(-1));
+    }
+
+    @Test
+    final void testAdjacentAndPredecessorNodes() {
+        Graph<String> g = buildGraph();
+        assertThrows(NullPointerException.class,
+                () -> g.getAdjacentNodesOf(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> g.getAdjacentNodesOf(new GraphNode<>("p")));
+        assertEquals(Set.of(nu, nx), g.getAdjacentNodesOf(ns));
+        assertEquals(Set.of(), g.getAdjacentNodesOf(nw));
+        assertEquals(Set.of(ns, nu), g.getPredecessorNodesOf(nx));
+        assertEquals(Set.of(ny), g.getPredecessorNodesOf(ns));
+        assertEquals(Set.of(), g.getPredecessorNodesOf(nw));
+        Set<Integer> indexes = new HashSet<>();
+        g.forEachSuccessor(0, indexes::add);
+        assertEquals(Set.of(1, 2), indexes);
+        indexes.clear();
+        g.forEachPredecessor(2, indexes::add);
+        assertEquals(Set.of(0, 1), indexes);
+        Set<GraphNode<String>> nodes = new HashSet<>();
+        g.forEachPredecessor(ns, nodes::add);
+        assertEquals(Set.of(ny), nodes);
+    }
+
+    @Test
+    final void testEdges() {
+        Graph<String> g = buildGraph();
+        Set<GraphEdge<String>> edgesTest = new HashSet<>();
+        edgesTest.add(new GraphEdge<>(ns, nu, true));
+        edgesTest.add(new GraphEdge<>(ns, nx, true));
+        edgesTest.add(new GraphEdge<>(nu, nx, true));
+        edgesTest.add(new GraphEdge<>(nx, ny, true));
+        edgesTest.add(new GraphEdge<>(ny, ns, true));
+        assertEquals(edgesTest, g.getEdges());
+
+        assertThrows(NullPointerException.class, () -> g.containsEdge(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> g.containsEdge(new GraphEdge<>(ns, new GraphNode<>("p"), true)));
+        assertTrue(g.containsEdge(new GraphEdge<>(ns, nu, true)));
+        assertFalse(g.containsEdge(new GraphEdge<>(nu, ns, true)));
+
+        assertEquals(Set.of(new GraphEdge<>(ns, nu, true),
+                new GraphEdge<>(ns, nx, true)), g.getEdgesOf(ns));
+        assertEquals(Set.of(new GraphEdge<>(ns, nx, true),
+                new GraphEdge<>(nu, nx, true)), g.getIngoingEdgesOf(nx));
+        assertTrue(g.getEdgesOf(nw).isEmpty());
+    }
+
+    @Test
+    final void testGetDegreeOf() {
+        Graph<String> g = buildGraph();
+        assertEquals(3, g.getDegreeOf(ns));
+        assertEquals(2, g.getDegreeOf(nu));
+        assertEquals(3, g.getDegreeOf(nx));
+        assertEquals(2, g.getDegreeOf(ny));
+        assertEquals(0, g.getDegreeOf(nw));
+        assertEquals(2, g.outDegree(ns));
+        assertEquals(1, g.inDegree(ns));
+        assertEquals(2, g.inDegree(nx));
+        assertThrows(NullPointerException.class, () -> g.getDegreeOf(null));
+    }
+
+    @Test
+    final void testFreeze() {
+        Graph<String> g = new AdjacencyMatrixDirectedGraph<>();
+        g.addNode(ns);
+        g.addNode(nu);
+        g.addNode(nx);
+        g.addEdge(new GraphEdge<>(ns, nu, true));
+        g.addEdge(new GraphEdge<>(nx, ns, true));
+        g.removeNode(ns);
+        g.addNode(ns);
+        g.addEdge(new GraphEdge<>(ns, nu, true));
+
+        Graph<String> frozen = g.freeze();
+        assertSame(frozen, frozen.freeze());
+        assertEquals(g.getEdges(), frozen.getEdges());
+        for (int i = 0; i < g.nodeCount(); i++)
+            assertEquals(g.getNodeAtIndex(i), frozen.getNodeAtIndex(i));
+
+        g.addEdge(new GraphEdge<>(nu, ns, true));
+        assertEquals(1, frozen.edgeCount());
+        assertThrows(UnsupportedOperationException.class,
+                () -> frozen.addEdge(new GraphEdge<>(nu, ns, true)));
+    }
+
+    @Test
+    final void testReadOnly() {
+        Graph<String> g = buildGraph();
+        assertThrows(UnsupportedOperationException.class,
+                () -> g.addNode(new GraphNode<>("p")));
+        assertThrows(UnsupportedOperationException.class,
+                () -> g.removeNode(ns));
+        assertThrows(UnsupportedOperationException.class,
+                () -> g.addEdge(new GraphEdge<>(nu, ns, true)));
+        assertThrows(UnsupportedOperationException.class,
+                () -> g.removeEdge(new GraphEdge<>(ns, nu, true)));
+        assertThrows(UnsupportedOperationException.class, g::clear);
+    }
+}
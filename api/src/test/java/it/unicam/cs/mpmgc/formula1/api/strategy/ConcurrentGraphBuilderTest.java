@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.CompressedSparseRowGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.ConcurrentGraphBuilder;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphEdge;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentGraphBuilderTest {
+    private static final int SIDE = 60;
+
+    @Test
+    final void testNodesAreAddedOnce() {
+        ConcurrentGraphBuilder<Integer> builder = new ConcurrentGraphBuilder<>();
+        AtomicInteger added = new AtomicInteger();
+        IntStream.range(0, 20_000).parallel().forEach(i -> {
+            if (builder.addNode(new GraphNode<>(i % 1000))) added.incrementAndGet();
+        });
+        assertEquals(1000, added.get());
+        assertEquals(1000, builder.nodeCount());
+
+        Graph<Integer> graph = builder.build();
+        assertEquals(1000, graph.nodeCount());
+        for (int i = 0; i < 1000; i++)
+            assertEquals(Integer.valueOf(i),
+                    graph.getNodeAtIndex(graph.getNodeIndexOf(i)).getLabel());
+    }
+
+    @Test
+    final void testBuiltOnlyOnce() {
+        ConcurrentGraphBuilder<Integer> builder = new ConcurrentGraphBuilder<>();
+        GraphNode<Integer> n1 = new GraphNode<>(1);
+        GraphNode<Integer> n2 = new GraphNode<>(2);
+        builder.addEdge(new GraphEdge<>(n1, n2, true));
+        assertEquals(1, builder.build().edgeCount());
+        assertThrows(IllegalStateException.class,
+                () -> builder.addEdge(new GraphEdge<>(n2, n1, true)));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    // Explores a grid where every cell goes right and down with fork/join.
+    @Test
+    final void testForkJoinExploration() {
+        ConcurrentGraphBuilder<Vector2> builder = new ConcurrentGraphBuilder<>();
+        GraphNode<Vector2> start = new GraphNode<>(new Vector2(0, 0));
+        builder.addNode(start);
+        ForkJoinPool.commonPool().invoke(new Explore(builder, start));
+        Graph<Vector2> parallel = builder.build();
+
+        CompressedSparseRowGraph.Builder<Vector2> sequential =
+                new CompressedSparseRowGraph.Builder<>();
+        for (int x = 0; x < SIDE; x++)
+            for (int y = 0; y < SIDE; y++)
+                sequential.addNode(new GraphNode<>(new Vector2(x, y)));
+        for (int x = 0; x < SIDE; x++) {
+            for (int y = 0; y < SIDE; y++) {
+                GraphNode<Vector2> node = new GraphNode<>(new Vector2(x, y));
+                if (x + 1 < SIDE) sequential.addEdge(new GraphEdge<>(node,
+                        new GraphNode<>(new Vector2(x + 1, y)), true));
+                if (y + 1 < SIDE) sequential.addEdge(new GraphEdge<>(node,
+                        new GraphNode<>(new Vector2(x, y + 1)), true));
+            }
+        }
+        Graph<Vector2> expected = sequential.build();
+
+        assertEquals(expected.nodeCount(), parallel.nodeCount());
+        assertEquals(expected.edgeCount(), parallel.edgeCount());
+        assertEquals(expected.getEdges(), parallel.getEdges());
+    }
+
+    private static final class Explore extends RecursiveAction {
+        private final ConcurrentGraphBuilder<Vector2> builder;
+        private final GraphNode<Vector2> node;
+
+        private Explore(ConcurrentGraphBuilder<Vector2> builder, GraphNode<Vector2> node) {
+            this.builder = builder;
+            this.node = node;
+        }
+
+        @Override
+        protected void compute() {
+            Vector2 position = node.getLabel();
+            Explore right = next(position.sum(new Vector2(1, 0)));
+            Explore down = next(position.sum(new Vector2(0, 1)));
+            if (right != null) right.fork();
+            if (down != null) down.compute();
+            if (right != null) right.join();
+        }
+
+        private Explore next(Vector2 position) {
+            if (position.x() >= SIDE || position.y() >= SIDE) return null;
+            GraphNode<Vector2> next = new GraphNode<>(position);
+            boolean added = builder.addNode(next);
+            builder.addEdge(new GraphEdge<>(node, next, true));
+            return added ? new Explore(builder, next) : null;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -436,6 +437,91 @@ public class DirectedGraphTest {
         assertTrue(g.getDegreeOf(nw)==1);
     }
 
+    @Test
+    final void testOutAndInDegree() {
+        Graph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        GraphNode<String> ns = new GraphNode<String>("s");
+        GraphNode<String> nu = new GraphNode<String>("u");
+        GraphNode<String> nx = new GraphNode<String>("x");
+        assertThrows(NullPointerException.class, () -> g.outDegree(null));
+        assertThrows(IllegalArgumentException.class, () -> g.inDegree(ns));
+        g.addNode(ns);
+        g.addNode(nu);
+        g.addNode(nx);
+        g.addEdge(new GraphEdge<String>(ns, nu, true));
+        g.addEdge(new GraphEdge<String>(ns, nx, true));
+        g.addEdge(new GraphEdge<String>(nu, nx, true));
+        g.addEdge(new GraphEdge<String>(nx, ns, true));
+        assertEquals(2, g.outDegree(ns));
+        assertEquals(1, g.inDegree(ns));
+        assertEquals(2, g.inDegree(nx));
+        g.removeEdge(new GraphEdge<String>(ns, nx, true));
+        assertEquals(1, g.outDegree(ns));
+        assertEquals(1, g.inDegree(nx));
+        assertEquals(3, g.edgeCount());
+        g.removeNode(ns);
+        assertEquals(1, g.edgeCount());
+        assertEquals(1, g.outDegree(nu));
+        assertEquals(0, g.inDegree(nu));
+        assertEquals(0, g.outDegree(nx));
+        assertEquals(1, g.inDegree(nx));
+    }
+
+    @Test
+    final void testForEachSuccessorAndPredecessor() {
+        Graph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        GraphNode<String> ns = new GraphNode<String>("s");
+        GraphNode<String> nu = new GraphNode<String>("u");
+        GraphNode<String> nx = new GraphNode<String>("x");
+        g.addNode(ns);
+        g.addNode(nu);
+        g.addNode(nx);
+        g.addEdge(new GraphEdge<String>(ns, nu, true));
+        g.addEdge(new GraphEdge<String>(ns, nx, true));
+        g.addEdge(new GraphEdge<String>(nu, nx, true));
+        Set<Integer> indexes = new HashSet<Integer>();
+        g.forEachSuccessor(0, indexes::add);
+        assertEquals(Set.of(1, 2), indexes);
+        indexes.clear();
+        g.forEachPredecessor(2, indexes::add);
+        assertEquals(Set.of(0, 1), indexes);
+        Set<GraphNode<String>> nodes = new HashSet<GraphNode<String>>();
+        g.forEachSuccessor(nu, nodes::add);
+        assertEquals(Set.of(nx), nodes);
+        nodes.clear();
+        g.forEachPredecessor(ns, nodes::add);
+        assertTrue(nodes.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> g.forEachSuccessor(3, i -> {}));
+        assertThrows(IllegalArgumentException.class,
+                () -> g.forEachPredecessor(new GraphNode<String>("p"), n -> {}));
+    }
+
+    @Test
+    final void testAddNodesAndEdges() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdjacencyMatrixDirectedGraph<String>(-1, 0));
+        Graph<String> g = new AdjacencyMatrixDirectedGraph<String>(2, 2);
+        GraphNode<String> ns = new GraphNode<String>("s");
+        GraphNode<String> nu = new GraphNode<String>("u");
+        GraphNode<String> nx = new GraphNode<String>("x");
+        assertThrows(NullPointerException.class, () -> g.addNodes(null));
+        assertTrue(g.addNodes(List.of(ns, nu)));
+        assertFalse(g.addNodes(List.of(ns, nu)));
+        assertTrue(g.addNodes(List.of(nu, nx)));
+        assertEquals(3, g.nodeCount());
+        assertEquals(2, g.getNodeIndexOf("x"));
+        List<GraphEdge<String>> edges = List.of(
+                new GraphEdge<String>(ns, nu, true),
+                new GraphEdge<String>(nx, ns, true));
+        assertTrue(g.addEdges(edges));
+        assertFalse(g.addEdges(edges));
+        assertEquals(new HashSet<>(edges), g.getEdges());
+        assertEquals(1, g.inDegree(ns));
+        assertThrows(IllegalArgumentException.class, () -> g.addEdges(
+                List.of(new GraphEdge<String>(ns, new GraphNode<String>("p"), true))));
+    }
+
     @Test
     void testRemoveNodeValid() {
         AdjacencyMatrixDirectedGraph<String> graph = new AdjacencyMatrixDirectedGraph<>();
@@ -500,6 +586,34 @@ public class DirectedGraphTest {
         assertEquals(1, graph.getNodeIndexOf("C"));
     }
 
+    @Test
+    void testRemoveNodeKeepsEdgesOfMovedNode() {
+        AdjacencyMatrixDirectedGraph<String> graph = new AdjacencyMatrixDirectedGraph<>();
+        GraphNode<String> nodeA = new GraphNode<>("A");
+        GraphNode<String> nodeB = new GraphNode<>("B");
+        GraphNode<String> nodeC = new GraphNode<>("C");
+        graph.addNode(nodeA);
+        graph.addNode(nodeB);
+        graph.addNode(nodeC);
+        graph.addEdge(new GraphEdge<>(nodeC, nodeB, true));
+        graph.addEdge(new GraphEdge<>(nodeB, nodeC, true));
+        graph.addEdge(new GraphEdge<>(nodeC, nodeC, true));
+        graph.addEdge(new GraphEdge<>(nodeA, nodeC, true));
+
+        // Rimuovi il nodo "A", "C" prende il suo indice
+        assertTrue(graph.removeNode(nodeA));
+        assertEquals(0, graph.getNodeIndexOf("C"));
+        assertEquals(nodeC, graph.getNodeAtIndex(0));
+        assertEquals(nodeC, graph.getNodeOf("C"));
+
+        // Controlla che gli archi di "C" siano rimasti
+        assertEquals(3, graph.edgeCount());
+        assertTrue(graph.containsEdge(new GraphEdge<>(nodeC, nodeB, true)));
+        assertTrue(graph.containsEdge(new GraphEdge<>(nodeB, nodeC, true)));
+        assertTrue(graph.containsEdge(new GraphEdge<>(nodeC, nodeC, true)));
+        assertEquals(Set.of(nodeB, nodeC), graph.getPredecessorNodesOf(nodeC));
+    }
+
     @Test
     void testRemoveEdgeValid() {
         AdjacencyMatrixDirectedGraph<String> graph = new AdjacencyMatrixDirectedGraph<>();
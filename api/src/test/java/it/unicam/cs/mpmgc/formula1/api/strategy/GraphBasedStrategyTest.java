@@ -0,0 +1,295 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.AStarStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.BFSStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.BidirectionalStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.CooperativeStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.DFSStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.DStarLiteStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.ParallelBFSStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.StoppedStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.Tile;
+import it.unicam.cs.mpmgc.formula1.api.track.TileTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphBasedStrategyTest {
+    static final String[] TRACK = {
+            "##########",
+            "#^.......#",
+            "#.######.#",
+            "#.#    #.#",
+            "#.######.#",
+            "#-.......#",
+            "##########"
+    };
+
+    static final String[] OPEN_TRACK = {
+            "####################",
+            "#^.................#",
+            "#..................#",
+            "#.......####.......#",
+            "#.......####.......#",
+            "#.......####.......#",
+            "#..................#",
+            "#.................-#",
+            "####################"
+    };
+
+    // Builds a track from its rows of tiles, also for the tests of other packages.
+    public static Track<List<Tile>> buildTrack(String... rows) {
+        List<List<Tile>> tiles = new ArrayList<>();
+        for (String row : rows) {
+            List<Tile> line = new ArrayList<>();
+            for (char c : row.toCharArray()) line.add(Tile.charToTile(c));
+            tiles.add(line);
+        }
+        return new TileTrack(tiles);
+    }
+
+    // Moves the car until it wins, failing if it crashes or takes too long.
+    static int race(Track<List<Tile>> track, Strategy strategy) {
+        CarEntity car = new CarEntity(new Vector2(0, 0), 'A', strategy);
+        track.putEntitiesOnStart(List.of(car));
+        SimulationInfo sim = new SimulationInfo(track, List.<Entity>of(car), null);
+        for (int moves = 1; moves <= 100; moves++) {
+            Vector2 before = car.getPosition();
+            car.nextMove(sim);
+            assertFalse(track.hasEntityCrashed(before, car.getPosition()), "The car crashed");
+            if (track.isEntityOnFinishLine(car)) return moves;
+        }
+        return fail("The car didn't reach the finish line");
+    }
+
+    @Test
+    final void testBFSReachesVictory() {
+        // Going down from (1,1) to (1,5) takes at least 3 moves: 1, 2, 1.
+        assertEquals(3, race(buildTrack(TRACK), new BFSStrategy()));
+    }
+
+    @Test
+    final void testDFSReachesVictory() {
+        assertTrue(race(buildTrack(TRACK), new DFSStrategy()) > 0);
+    }
+
+    @Test
+    final void testAStarFindsFewestMoves() {
+        assertEquals(3, race(buildTrack(TRACK), new AStarStrategy()));
+        assertEquals(race(buildTrack(OPEN_TRACK), new BFSStrategy()),
+                race(buildTrack(OPEN_TRACK), new AStarStrategy()));
+        // The only way to the finish line flies over the air at (4,1): 1, 1, 2, 1.
+        String[] airGap = {"########", "#^.. .-#", "########"};
+        assertEquals(4, race(buildTrack(airGap), new BFSStrategy()));
+        assertEquals(4, race(buildTrack(airGap), new AStarStrategy()));
+    }
+
+    @Test
+    final void testAStarIsBuilt() {
+        assertInstanceOf(AStarStrategy.class,
+                StrategyFactory.buildStrategy(StrategyString.stringToStrategy("astar-bot")));
+    }
+
+    @Test
+    final void testLongCorridor() {
+        String wall = "#".repeat(802);
+        Track<List<Tile>> corridor = buildTrack(wall, "#^" + ".".repeat(798) + "-#", wall);
+        // Accelerating all the way: 1 + 2 + ... + 39 = 780, then one more move.
+        assertEquals(40, race(corridor, new BFSStrategy()));
+    }
+
+    @Test
+    final void testStateCap() {
+        Track<List<Tile>> track = buildTrack(TRACK);
+        CarEntity car = new CarEntity(new Vector2(0, 0), 'A', new BFSStrategy(1));
+        track.putEntitiesOnStart(List.of(car));
+        SimulationInfo sim = new SimulationInfo(track, List.<Entity>of(car), null);
+        // Without a plan the car stays still instead of crashing.
+        for (int moves = 0; moves < 5; moves++) {
+            car.nextMove(sim);
+            assertEquals(new Vector2(1, 1), car.getPosition());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BFSStrategy(0));
+    }
+
+    @Test
+    final void testTimeBudget() {
+        Duration tiny = Duration.ofNanos(1);
+        // The search stops every few states, but the car keeps going forward.
+        assertTrue(race(buildTrack(OPEN_TRACK), new BFSStrategy(1 << 16, tiny)) > 0);
+        assertTrue(race(buildTrack(OPEN_TRACK), new AStarStrategy(1 << 16, tiny)) > 0);
+        assertTrue(race(buildTrack(OPEN_TRACK), new DFSStrategy(1 << 16, tiny)) > 0);
+        String wall = "#".repeat(802);
+        Track<List<Tile>> corridor = buildTrack(wall, "#^" + ".".repeat(798) + "-#", wall);
+        assertTrue(race(corridor, new BFSStrategy(1 << 22, tiny)) > 0);
+        // A budget long enough changes nothing.
+        assertEquals(race(buildTrack(OPEN_TRACK), new BFSStrategy()),
+                race(buildTrack(OPEN_TRACK), new BFSStrategy(1 << 16, Duration.ofMinutes(1))));
+        assertThrows(NullPointerException.class, () -> new BFSStrategy(1, null));
+        assertThrows(IllegalArgumentException.class, () -> new BFSStrategy(1, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    final void testTimeBudgetNeverCrashes() {
+        // The fastest partial plans here end too close to a wall to brake.
+        String[] obstacles = {
+                "################",
+                "#^.#...........#",
+                "#..............#",
+                "##.............#",
+                "#..#...........#",
+                "##.........#...#",
+                "##......#.....-#",
+                "################"
+        };
+        Duration tiny = Duration.ofNanos(1);
+        for (int i = 0; i < 10; i++) {
+            race(buildTrack(obstacles), new BFSStrategy(1 << 20, tiny));
+            race(buildTrack(obstacles), new AStarStrategy(1 << 20, tiny));
+            race(buildTrack(obstacles), new DFSStrategy(1 << 20, tiny));
+        }
+    }
+
+    @Test
+    final void testBidirectionalFindsFewestMoves() {
+        assertEquals(3, race(buildTrack(TRACK), new BidirectionalStrategy()));
+        assertEquals(race(buildTrack(OPEN_TRACK), new BFSStrategy()),
+                race(buildTrack(OPEN_TRACK), new BidirectionalStrategy()));
+        assertInstanceOf(BidirectionalStrategy.class,
+                StrategyFactory.buildStrategy(StrategyString.stringToStrategy("bidir-bot")));
+    }
+
+    @Test
+    final void testParallelBFSFindsFewestMoves() {
+        String wall = "#".repeat(60);
+        String[] field = new String[30];
+        field[0] = wall;
+        field[1] = "#^" + ".".repeat(57) + "#";
+        for (int y = 2; y < 28; y++)
+            field[y] = "#" + ".".repeat(y % 7 == 0 ? 20 : 58) + (y % 7 == 0 ? "#".repeat(39) : "#");
+        field[28] = "#" + ".".repeat(57) + "-#";
+        field[29] = wall;
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(3, race(buildTrack(TRACK), new ParallelBFSStrategy(pool)));
+            assertEquals(race(buildTrack(field), new BFSStrategy()),
+                    race(buildTrack(field), new ParallelBFSStrategy(pool)));
+        } finally {
+            pool.shutdown();
+        }
+        assertInstanceOf(ParallelBFSStrategy.class,
+                StrategyFactory.buildStrategy(StrategyString.stringToStrategy("pbfs-bot")));
+    }
+
+    @Test
+    final void testDStarLiteFindsFewestMoves() {
+        assertEquals(3, race(buildTrack(TRACK), new DStarLiteStrategy()));
+        assertEquals(race(buildTrack(OPEN_TRACK), new BFSStrategy()),
+                race(buildTrack(OPEN_TRACK), new DStarLiteStrategy()));
+        assertInstanceOf(DStarLiteStrategy.class,
+                StrategyFactory.buildStrategy(StrategyString.stringToStrategy("dstar-bot")));
+    }
+
+    @Test
+    final void testDStarLiteAvoidsOtherCars() {
+        Track<List<Tile>> track = buildTrack(
+                "#######",
+                "#^....#",
+                "#.....#",
+                "#.....#",
+                "#.....#",
+                "#-....#",
+                "#######");
+        CarEntity car = new CarEntity(new Vector2(0, 0), 'A', new DStarLiteStrategy());
+        CarEntity blocker = new CarEntity(new Vector2(1, 3), 'B', new StoppedStrategy());
+        track.putEntitiesOnStart(List.of(car));
+        SimulationInfo sim = new SimulationInfo(track, List.<Entity>of(car, blocker), null);
+
+        for (int moves = 1; moves <= 20; moves++) {
+            Vector2 before = car.getPosition();
+            car.nextMove(sim);
+            assertFalse(track.hasEntityCrashed(before, car.getPosition()), "The car crashed");
+            assertNotEquals(blocker.getPosition(), car.getPosition());
+            // The blocker moves away, the plan must be repaired again.
+            if (moves == 1) blocker.setPosition(new Vector2(2, 3));
+            if (track.isEntityOnFinishLine(car)) return;
+        }
+        fail("The car didn't reach the finish line");
+    }
+
+    @Test
+    final void testCooperativeFindsFewestMoves() {
+        assertEquals(3, race(buildTrack(TRACK), new CooperativeStrategy()));
+        assertEquals(race(buildTrack(OPEN_TRACK), new BFSStrategy()),
+                race(buildTrack(OPEN_TRACK), new CooperativeStrategy()));
+        assertInstanceOf(CooperativeStrategy.class,
+                StrategyFactory.buildStrategy(StrategyString.stringToStrategy("coop-bot")));
+    }
+
+    @Test
+    final void testCooperativeCarsNeverMeet() {
+        // 50 cars start on the left column and all go to the same 20 cells.
+        List<String> rows = new ArrayList<>();
+        rows.add("#".repeat(32));
+        for (int y = 1; y <= 50; y++)
+            rows.add("#^" + ".".repeat(28) + (y >= 16 && y <= 35 ? "-" : ".") + "#");
+        rows.add("#".repeat(32));
+        Track<List<Tile>> track = buildTrack(rows.toArray(String[]::new));
+        List<Entity> cars = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            cars.add(new CarEntity(new Vector2(0, 0), (char) ('A' + i), new CooperativeStrategy()));
+        track.putEntitiesOnStart(cars);
+        SimulationInfo sim = new SimulationInfo(track, cars, null);
+
+        List<Entity> racing = new ArrayList<>(cars);
+        for (int round = 1; round <= 100 && !racing.isEmpty(); round++) {
+            for (Entity car : racing) {
+                Vector2 before = car.getPosition();
+                car.nextMove(sim);
+                assertFalse(track.hasEntityCrashed(before, car.getPosition()), "The car crashed");
+            }
+            Set<Vector2> positions = new HashSet<>();
+            for (Entity car : racing)
+                assertTrue(positions.add(car.getPosition()), "Two cars are on the same position");
+            racing.removeIf(track::isEntityOnFinishLine);
+        }
+        assertTrue(racing.isEmpty(), "Some cars didn't reach the finish line");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.CarState;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.ImplicitStateGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphEdge;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import it.unicam.cs.mpmgc.formula1.api.track.Tile;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImplicitStateGraphTest {
+    private final Track<List<Tile>> track = GraphBasedStrategyTest.buildTrack(
+            "######",
+            "#^...#",
+            "#.##.#",
+            "#-...#",
+            "######");
+    private final CarState start = new CarState(1, 1, 0, 0);
+
+    @Test
+    final void testSuccessorsOnDemand() {
+        ImplicitStateGraph graph = new ImplicitStateGraph(start, track, 1000);
+        assertEquals(1, graph.nodeCount());
+        assertEquals(0, graph.edgeCount());
+
+        Set<CarState> successors = new HashSet<>();
+        graph.forEachSuccessor(0, j -> successors.add(graph.getNodeAtIndex(j).getLabel()));
+        assertEquals(Set.of(new CarState(2, 1, 1, 0), new CarState(1, 2, 0, 1)), successors);
+        assertEquals(3, graph.nodeCount());
+        assertEquals(2, graph.edgeCount());
+        assertEquals(0, graph.getNodeIndexOf(start));
+        assertTrue(graph.containsEdge(new GraphEdge<>(new GraphNode<>(start),
+                new GraphNode<>(new CarState(2, 1, 1, 0)), true)));
+        assertNull(graph.getNodeOf(new CarState(3, 3, 0, 0)));
+    }
+
+    @Test
+    final void testFreeze() {
+        ImplicitStateGraph graph = new ImplicitStateGraph(start, track, 1000);
+        graph.forEachSuccessor(0, j -> {});
+        CarState discovered = graph.getNodeAtIndex(1).getLabel();
+
+        Graph<CarState> frozen = graph.freeze();
+        assertSame(frozen, graph.freeze());
+        assertEquals(frozen.nodeCount(), graph.nodeCount());
+        assertEquals(frozen.edgeCount(), graph.edgeCount());
+        assertEquals(discovered, frozen.getNodeAtIndex(1).getLabel());
+        assertTrue(frozen.containsNode(new GraphNode<>(new CarState(1, 3, 0, 1))));
+
+        for (GraphEdge<CarState> edge : frozen.getEdges())
+            assertTrue(graph.getPredecessorNodesOf(edge.getNode2()).contains(edge.getNode1()));
+        assertEquals(frozen.getEdges(), graph.getEdges());
+    }
+
+    @Test
+    final void testStateCap() {
+        ImplicitStateGraph graph = new ImplicitStateGraph(start, track, 2);
+        assertEquals(2, graph.freeze().nodeCount());
+        assertEquals(1, graph.edgeCount());
+        assertThrows(IllegalArgumentException.class, () -> new ImplicitStateGraph(start, track, 0));
+    }
+
+    @Test
+    final void testReadOnly() {
+        ImplicitStateGraph graph = new ImplicitStateGraph(start, track, 1000);
+        GraphNode<CarState> node = new GraphNode<>(new CarState(4, 1, 0, 0));
+        assertThrows(UnsupportedOperationException.class, () -> graph.addNode(node));
+        assertThrows(UnsupportedOperationException.class, graph::clear);
+        assertThrows(IllegalArgumentException.class, () -> graph.getAdjacentNodesOf(node));
+        assertThrows(IndexOutOfBoundsException.class, () -> graph.forEachSuccessor(5, j -> {}));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.MonteCarloStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.StoppedStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.Tile;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.OPEN_TRACK;
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.TRACK;
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.buildTrack;
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.race;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloStrategyTest {
+    @Test
+    final void testReachesVictory() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            // Going down from (1,1) to (1,5) takes at least 3 moves.
+            assertTrue(race(buildTrack(TRACK), new MonteCarloStrategy(2000, pool)) <= 6);
+            assertTrue(race(buildTrack(OPEN_TRACK), new MonteCarloStrategy(2000, pool)) <= 20);
+        } finally {
+            pool.shutdown();
+        }
+        assertInstanceOf(MonteCarloStrategy.class,
+                StrategyFactory.buildStrategy(StrategyString.stringToStrategy("mcts-bot")));
+    }
+
+    @Test
+    final void testTimeBudget() {
+        assertTrue(race(buildTrack(OPEN_TRACK),
+                new MonteCarloStrategy(Duration.ofMillis(20), ForkJoinPool.commonPool())) <= 20);
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloStrategy(Duration.ZERO, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloStrategy(0, ForkJoinPool.commonPool()));
+        assertThrows(NullPointerException.class, () -> new MonteCarloStrategy(1, null));
+        assertThrows(NullPointerException.class,
+                () -> new MonteCarloStrategy(null, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    final void testSameSeedSameMoves() {
+        StrategyString mcts = StrategyString.stringToStrategy("mcts-bot");
+        assertEquals(positions(StrategyFactory.buildStrategy(mcts, new SplittableRandom(7))),
+                positions(StrategyFactory.buildStrategy(mcts, new SplittableRandom(7))));
+        assertThrows(NullPointerException.class,
+                () -> new MonteCarloStrategy(1, ForkJoinPool.commonPool(), null));
+    }
+
+    // The positions of a car racing on the open track, until it wins.
+    private static List<Vector2> positions(Strategy strategy) {
+        Track<List<Tile>> track = buildTrack(OPEN_TRACK);
+        CarEntity car = new CarEntity(new Vector2(0, 0), 'A', strategy);
+        track.putEntitiesOnStart(List.of(car));
+        SimulationInfo sim = new SimulationInfo(track, List.<Entity>of(car), null);
+        List<Vector2> positions = new ArrayList<>();
+        for (int moves = 1; moves <= 30 && !track.isEntityOnFinishLine(car); moves++) {
+            car.nextMove(sim);
+            positions.add(car.getPosition());
+        }
+        return positions;
+    }
+
+    @Test
+    final void testAvoidsOtherCars() {
+        Track<List<Tile>> track = buildTrack(
+                "#######",
+                "#^....#",
+                "#.....#",
+                "#.....#",
+                "#.....#",
+                "#-....#",
+                "#######");
+        CarEntity car = new CarEntity(new Vector2(0, 0), 'A', new MonteCarloStrategy());
+        CarEntity blocker = new CarEntity(new Vector2(1, 3), 'B', new StoppedStrategy());
+        track.putEntitiesOnStart(List.of(car));
+        SimulationInfo sim = new SimulationInfo(track, List.<Entity>of(car, blocker), null);
+
+        for (int moves = 1; moves <= 20; moves++) {
+            Vector2 before = car.getPosition();
+            car.nextMove(sim);
+            assertFalse(track.hasEntityCrashed(before, car.getPosition()), "The car crashed");
+            assertNotEquals(blocker.getPosition(), car.getPosition());
+            if (track.isEntityOnFinishLine(car)) return;
+        }
+        fail("The car didn't reach the finish line");
+    }
+
+    @Test
+    final void testDecidesForManyCars() {
+        Track<List<Tile>> track = buildTrack(OPEN_TRACK);
+        MonteCarloStrategy strategy = new MonteCarloStrategy();
+        CarEntity a = new CarEntity(new Vector2(0, 0), 'A', strategy);
+        CarEntity b = new CarEntity(new Vector2(0, 0), 'B', strategy);
+        track.putEntitiesOnStart(List.of(a));
+        b.setPosition(new Vector2(1, 6));
+        // A car that won leaves the race, or it would take the only victory.
+        List<Entity> entities = new ArrayList<>(List.of(a, b));
+        SimulationInfo sim = new SimulationInfo(track, entities, null);
+
+        List<CarEntity> racing = new ArrayList<>(List.of(a, b));
+        for (int rounds = 1; rounds <= 30 && !racing.isEmpty(); rounds++) {
+            Vector2[] moves = strategy.decideNextMoves(racing, sim);
+            assertEquals(racing.size(), moves.length);
+            for (int i = 0; i < moves.length; i++) {
+                CarEntity car = racing.get(i);
+                Vector2 before = car.getPosition();
+                car.applyMove(moves[i]);
+                assertFalse(track.hasEntityCrashed(before, car.getPosition()), "The car crashed");
+            }
+            racing.removeIf(track::isEntityOnFinishLine);
+            entities.removeIf(track::isEntityOnFinishLine);
+        }
+        assertTrue(racing.isEmpty(), "The cars didn't reach the finish line");
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.BFSStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.CarState;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.DFSStrategy;
+import it.unicam.cs.mpmgc.formula1.api.strategy.concrete.PlanCache;
+import it.unicam.cs.mpmgc.formula1.api.track.Tile;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlanCacheTest {
+    private final Track<List<Tile>> track = GraphBasedStrategyTest.buildTrack(
+            "#####",
+            "#^.-#",
+            "#####");
+    private final CarState start = new CarState(1, 1, 0, 0);
+    private final List<CarState> plan = List.of(new CarState(2, 1, 1, 0),
+            new CarState(3, 1, 1, 0));
+
+    @Test
+    final void testPlanComputedOnce() throws Exception {
+        AtomicInteger computed = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<CarState>>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                results.add(executor.submit(() -> {
+                    ready.await();
+                    return PlanCache.getPlan(track, start, BFSStrategy.class, () -> {
+                        computed.incrementAndGet();
+                        return plan;
+                    });
+                }));
+            }
+            ready.countDown();
+            for (Future<List<CarState>> result : results) assertEquals(plan, result.get());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, computed.get());
+    }
+
+    @Test
+    final void testKeys() {
+        PlanCache.getPlan(track, start, BFSStrategy.class, () -> plan);
+        assertEquals(List.of(), PlanCache.getPlan(track, start, DFSStrategy.class, List::of));
+        assertEquals(List.of(), PlanCache.getPlan(track, new CarState(1, 1, 1, 0),
+                BFSStrategy.class, List::of));
+        Track<List<Tile>> other = GraphBasedStrategyTest.buildTrack("#^.-#");
+        assertNull(PlanCache.getPlan(other, start, BFSStrategy.class, () -> null));
+        assertEquals(plan, PlanCache.getPlan(track, start, BFSStrategy.class, List::of));
+    }
+
+    @Test
+    final void testPlanIsReadOnly() {
+        List<CarState> cached = PlanCache.getPlan(track, start, BFSStrategy.class,
+                () -> new ArrayList<>(plan));
+        assertThrows(UnsupportedOperationException.class, cached::clear);
+    }
+
+    @Test
+    final void testFailedPlanIsRetried() {
+        assertThrows(IllegalStateException.class, () -> PlanCache.getPlan(track, start,
+                BFSStrategy.class, () -> { throw new IllegalStateException(); }));
+        assertEquals(plan, PlanCache.getPlan(track, start, BFSStrategy.class, () -> plan));
+    }
+
+    @Test
+    final void testCarsShareThePlan() {
+        Track<List<Tile>> shared = GraphBasedStrategyTest.buildTrack(
+                "#######",
+                "#^....#",
+                "#....-#",
+                "#######");
+        assertEquals(GraphBasedStrategyTest.race(shared, new BFSStrategy()),
+                GraphBasedStrategyTest.race(shared, new BFSStrategy()));
+    }
+}
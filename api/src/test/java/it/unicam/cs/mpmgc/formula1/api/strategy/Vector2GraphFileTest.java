@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy;
+
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.AdjacencyMatrixDirectedGraph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Graph;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphEdge;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.GraphNode;
+import it.unicam.cs.mpmgc.formula1.api.strategy.graph.Vector2GraphFile;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Vector2GraphFileTest {
+    private final GraphNode<Vector2> n1 = new GraphNode<>(new Vector2(3, 1));
+    private final GraphNode<Vector2> n2 = new GraphNode<>(new Vector2(0, 0));
+    private final GraphNode<Vector2> n3 = new GraphNode<>(new Vector2(0, -2));
+    private final GraphNode<Vector2> n4 = new GraphNode<>(new Vector2(1, 5));
+    private final GraphNode<Vector2> n5 = new GraphNode<>(new Vector2(7, 7));
+
+    private Graph<Vector2> buildGraph() {
+        Graph<Vector2> graph = new AdjacencyMatrixDirectedGraph<>();
+        graph.addNodes(List.of(n1, n2, n3, n4, n5));
+        graph.addEdge(new GraphEdge<>(n1, n2, true));
+        graph.addEdge(new GraphEdge<>(n1, n3, true));
+        graph.addEdge(new GraphEdge<>(n2, n3, true));
+        graph.addEdge(new GraphEdge<>(n3, n4, true));
+        graph.addEdge(new GraphEdge<>(n4, n1, true));
+        graph.addEdge(new GraphEdge<>(n4, n4, true));
+        return graph;
+    }
+
+    @Test
+    final void testWriteAndMap() throws IOException {
+        Graph<Vector2> graph = buildGraph();
+        Path path = Files.createTempFile("graph", ".bin");
+        try {
+            Vector2GraphFile.write(graph, path);
+            Graph<Vector2> mapped = Vector2GraphFile.map(path);
+
+            assertEquals(graph.nodeCount(), mapped.nodeCount());
+            assertEquals(graph.edgeCount(), mapped.edgeCount());
+            assertEquals(graph.getNodes(), mapped.getNodes());
+            assertEquals(graph.getEdges(), mapped.getEdges());
+            for (GraphNode<Vector2> node : graph.getNodes()) {
+                assertEquals(graph.getAdjacentNodesOf(node), mapped.getAdjacentNodesOf(node));
+                assertEquals(graph.getPredecessorNodesOf(node), mapped.getPredecessorNodesOf(node));
+                assertEquals(graph.outDegree(node), mapped.outDegree(node));
+                assertEquals(graph.inDegree(node), mapped.inDegree(node));
+                assertEquals(node, mapped.getNodeAtIndex(mapped.getNodeIndexOf(node.getLabel())));
+            }
+            assertTrue(mapped.containsEdge(new GraphEdge<>(n4, n4, true)));
+            assertFalse(mapped.containsEdge(new GraphEdge<>(n2, n1, true)));
+            assertNull(mapped.getNodeOf(new Vector2(9, 9)));
+            assertFalse(mapped.containsNode(new GraphNode<>(new Vector2(0, 1))));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    final void testForEachSuccessor() throws IOException {
+        Path path = Files.createTempFile("graph", ".bin");
+        try {
+            Vector2GraphFile.write(buildGraph(), path);
+            Graph<Vector2> mapped = Vector2GraphFile.map(path);
+
+            List<Vector2> successors = new ArrayList<>();
+            mapped.forEachSuccessor(mapped.getNodeIndexOf(n1.getLabel()),
+                    j -> successors.add(mapped.getNodeAtIndex(j).getLabel()));
+            assertEquals(List.of(n3.getLabel(), n2.getLabel()), successors);
+
+            List<Vector2> predecessors = new ArrayList<>();
+            mapped.forEachPredecessor(n4, node -> predecessors.add(node.getLabel()));
+            assertEquals(List.of(n3.getLabel(), n4.getLabel()), predecessors);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    final void testReadOnly() throws IOException {
+        Path path = Files.createTempFile("graph", ".bin");
+        try {
+            Vector2GraphFile.write(buildGraph(), path);
+            Graph<Vector2> mapped = Vector2GraphFile.map(path);
+
+            assertSame(mapped, mapped.freeze());
+            assertThrows(UnsupportedOperationException.class, () -> mapped.addNode(n1));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.removeNode(n1));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> mapped.addEdge(new GraphEdge<>(n2, n1, true)));
+            assertThrows(UnsupportedOperationException.class, mapped::clear);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    final void testEmptyGraph() throws IOException {
+        Path path = Files.createTempFile("graph", ".bin");
+        try {
+            Vector2GraphFile.write(new AdjacencyMatrixDirectedGraph<>(), path);
+            Graph<Vector2> mapped = Vector2GraphFile.map(path);
+
+            assertTrue(mapped.isEmpty());
+            assertEquals(0, mapped.edgeCount());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    final void testNotAGraphFile() throws IOException {
+        Path path = Files.createTempFile("graph", ".bin");
+        try {
+            Files.writeString(path, "not a graph file");
+            assertThrows(IllegalArgumentException.class, () -> Vector2GraphFile.map(path));
+            assertThrows(NullPointerException.class, () -> Vector2GraphFile.map(null));
+            assertThrows(NullPointerException.class, () -> Vector2GraphFile.write(null, path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
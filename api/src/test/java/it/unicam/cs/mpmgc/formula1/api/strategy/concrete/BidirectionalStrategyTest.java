@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.track.Tile;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackElement;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Stack;
+
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.buildTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BidirectionalStrategyTest {
+    @Test
+    final void testBackwardSideExpands() {
+        List<String> rows = new ArrayList<>();
+        rows.add("#".repeat(62));
+        rows.add("#^" + ".".repeat(59) + "#");
+        for (int y = 2; y < 60; y++) rows.add("#" + ".".repeat(60) + "#");
+        rows.add("#" + ".".repeat(59) + "-#");
+        rows.add("#".repeat(62));
+        Track<List<Tile>> track = buildTrack(rows.toArray(String[]::new));
+        CarState start = new CarState(new Vector2(1, 1), new Vector2(0, 0));
+        List<Vector2> victories = track.getAllPositionsOfElement(TrackElement.VICTORY);
+
+        GraphBasedStrategy bfs = new BFSStrategy();
+        bfs.track = track;
+        bfs.createStateGraph(start, track);
+        Stack<CarState> bfsPath = bfs.traverse(bfs.stateGraph, start, victories);
+        GraphBasedStrategy bidirectional = new BidirectionalStrategy();
+        bidirectional.track = track;
+        bidirectional.createStateGraph(start, track);
+        Stack<CarState> path = bidirectional.traverse(bidirectional.stateGraph, start, victories);
+
+        assertEquals(bfsPath.size(), path.size());
+        // Meeting the backward side halfway, the forward one builds far less of the graph.
+        assertTrue(bidirectional.stateGraph.nodeCount() * 4 < bfs.stateGraph.nodeCount());
+    }
+}
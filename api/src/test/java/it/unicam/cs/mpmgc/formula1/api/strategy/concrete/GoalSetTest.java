@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GoalSetTest {
+    @Test
+    final void testContains() {
+        GoalSet goals = new GoalSet(List.of(new Vector2(3, 4), new Vector2(10, 4),
+                new Vector2(5, 9)));
+        assertFalse(goals.isEmpty());
+        assertTrue(goals.contains(3, 4));
+        assertTrue(goals.contains(10, 4));
+        assertTrue(goals.contains(new CarState(5, 9, 2, -1)));
+        assertFalse(goals.contains(4, 4));
+        assertFalse(goals.contains(5, 8));
+        assertFalse(goals.contains(2, 4));
+        assertFalse(goals.contains(11, 9));
+        assertFalse(goals.contains(-3, -4));
+    }
+
+    @Test
+    final void testEmpty() {
+        GoalSet goals = new GoalSet(List.of());
+        assertTrue(goals.isEmpty());
+        assertFalse(goals.contains(0, 0));
+        assertThrows(NullPointerException.class, () -> new GoalSet(null));
+    }
+}
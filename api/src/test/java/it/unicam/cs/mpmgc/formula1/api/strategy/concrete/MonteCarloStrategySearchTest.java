@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.buildTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloStrategySearchTest {
+    @Test
+    final void testBudgetSharedBetweenCars() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            MonteCarloStrategy strategy = new MonteCarloStrategy(Duration.ofMillis(50), pool);
+            List<Entity> cars = new ArrayList<>();
+            List<Vector2[]> possibleMoves = new ArrayList<>();
+            for (int x = 1; x <= 8; x++) {
+                cars.add(new CarEntity(new Vector2(x, 2), (char) ('A' + x), strategy));
+                possibleMoves.add(CarEntity.getPossibleMoves(new Vector2(0, 0)));
+            }
+            SimulationInfo sim = new SimulationInfo(buildTrack(
+                    "############",
+                    "#^.........#",
+                    "#..........#",
+                    "#..........#",
+                    "#.........-#",
+                    "############"), cars, null);
+
+            int[][] visits = strategy.rootVisits(cars, possibleMoves, sim);
+            int first = Arrays.stream(visits[0]).sum();
+            int last = Arrays.stream(visits[visits.length - 1]).sum();
+            // Every tree takes its turn, so the last car isn't left with one iteration per tree.
+            assertTrue(last > 100, "The last car got " + last + " iterations");
+            assertTrue(Math.abs(first - last) <= pool.getParallelism(),
+                    "The first car got " + first + " iterations, the last one " + last);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
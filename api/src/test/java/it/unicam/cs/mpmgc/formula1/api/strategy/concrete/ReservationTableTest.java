@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.strategy.concrete;
+
+import it.unicam.cs.mpmgc.formula1.api.entity.CarEntity;
+import it.unicam.cs.mpmgc.formula1.api.entity.Entity;
+import it.unicam.cs.mpmgc.formula1.api.simulation.SimulationInfo;
+import it.unicam.cs.mpmgc.formula1.api.track.Tile;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.buildTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReservationTableTest {
+    @Test
+    final void testKeepsTheCellsOfOthers() {
+        ReservationTable table = ReservationTable.of(buildTrack("###", "#^#", "###"));
+        long cell = ReservationTable.cell(1, 1, 3);
+        assertTrue(table.reserve(cell, 1));
+        assertTrue(table.reserve(cell, 1));
+        assertFalse(table.reserve(cell, 2));
+        table.release(cell, 2);
+        assertTrue(table.isReserved(cell));
+        table.release(cell, 1);
+        assertFalse(table.isReserved(cell));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    final void testWinningFreesTheCells() {
+        Track<List<Tile>> track = buildTrack("#######", "#^...-#", "#######");
+        CarEntity car = new CarEntity(new Vector2(0, 0), 'A', new CooperativeStrategy());
+        track.putEntitiesOnStart(List.of(car));
+        SimulationInfo sim = new SimulationInfo(track, List.<Entity>of(car), null);
+
+        car.nextMove(sim);
+        assertTrue(ReservationTable.of(track).size() > 0);
+        for (int moves = 1; moves < 10 && !track.isEntityOnFinishLine(car); moves++) car.nextMove(sim);
+        assertTrue(track.isEntityOnFinishLine(car));
+        assertEquals(0, ReservationTable.of(track).size());
+    }
+}
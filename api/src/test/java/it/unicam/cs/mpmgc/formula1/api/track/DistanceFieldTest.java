@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.buildTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistanceFieldTest {
+    private final Track<List<Tile>> track = buildTrack(
+            "########",
+            "#^.....#",
+            "#.####.#",
+            "#.#  #.#",
+            "#.####.#",
+            "#-.....#",
+            "########",
+            "#.#");
+
+    @Test
+    final void testDistances() {
+        DistanceField field = DistanceField.of(track);
+        assertEquals(0, field.distance(new Vector2(1, 5)));
+        assertEquals(1, field.distance(new Vector2(2, 5)));
+        assertEquals(1, field.distance(new Vector2(1, 4)));
+        assertEquals(4, field.distance(new Vector2(1, 1)));
+        assertEquals(5, field.distance(new Vector2(6, 5)));
+        // One diagonal step from (5,5).
+        assertEquals(5, field.distance(new Vector2(6, 4)));
+    }
+
+    @Test
+    final void testUnreachable() {
+        DistanceField field = DistanceField.of(track);
+        assertEquals(DistanceField.UNREACHABLE, field.distance(0, 0));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(3, 3));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(1, 7));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(-1, 2));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(20, 2));
+        assertThrows(NullPointerException.class, () -> field.distance(null));
+    }
+
+    @Test
+    final void testAcrossAir() {
+        // A car can fly over the air between (3,1) and (5,1), but not through a wall.
+        DistanceField field = DistanceField.of(buildTrack(
+                "########",
+                "#^.. .-#",
+                "#.######",
+                "#.#     ",
+                "########"));
+        assertEquals(1, field.distance(5, 1));
+        assertEquals(3, field.distance(3, 1));
+        assertEquals(5, field.distance(1, 1));
+        assertEquals(6, field.distance(1, 3));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(4, 1));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(4, 3));
+    }
+
+    @Test
+    final void testCachedPerTrack() {
+        assertSame(DistanceField.of(track), DistanceField.of(track));
+        Track<List<Tile>> other = buildTrack("#-.#");
+        assertNotSame(DistanceField.of(track), DistanceField.of(other));
+        assertThrows(NullPointerException.class, () -> DistanceField.of(null));
+    }
+
+    @Test
+    final void testSize() {
+        assertEquals(8, track.getWidth());
+        assertEquals(8, track.getHeight());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Mattia Valeri
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.vector.Vector2;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static it.unicam.cs.mpmgc.formula1.api.strategy.GraphBasedStrategyTest.buildTrack;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoadGridTest {
+    @Test
+    final void testSameAsTrack() {
+        Track<List<Tile>> track = buildTrack(
+                "##########",
+                "#^......##",
+                "#.####...#",
+                "#.#  #.. #",
+                "#.####...#",
+                "#-.......#",
+                "##########");
+        RoadGrid grid = RoadGrid.of(track);
+        for (int y0 = 0; y0 < 7; y0++)
+            for (int x0 = 0; x0 < 10; x0++)
+                for (int y1 = 0; y1 < 7; y1++)
+                    for (int x1 = 0; x1 < 10; x1++)
+                        assertEquals(track.hasEntityCrashed(new Vector2(x0, y0), new Vector2(x1, y1)),
+                                grid.hasCrashed(x0, y0, x1, y1));
+        for (int y = 0; y < 7; y++)
+            for (int x = 0; x < 10; x++)
+                assertEquals(track.isPositionInsideRoad(new Vector2(x, y)), grid.isInsideRoad(x, y));
+    }
+
+    @Test
+    final void testOutsideTrack() {
+        RoadGrid grid = RoadGrid.of(buildTrack(
+                "#....",
+                "#.",
+                "#...."));
+        assertFalse(grid.hasCrashed(1, 0, 1, 2));
+        // The segment goes through a position missing from the second row.
+        assertTrue(grid.hasCrashed(4, 0, 4, 2));
+        assertTrue(grid.hasCrashed(1, 0, -1, 0));
+        assertTrue(grid.hasCrashed(1, 0, 1, 3));
+        assertFalse(grid.isInsideRoad(3, 1));
+        assertFalse(grid.isInsideRoad(5, 0));
+    }
+
+    @Test
+    final void testCachedPerTrack() {
+        Track<List<Tile>> track = buildTrack("#^-#");
+        assertSame(RoadGrid.of(track), RoadGrid.of(track));
+        assertThrows(NullPointerException.class, () -> RoadGrid.of(null));
+    }
+}
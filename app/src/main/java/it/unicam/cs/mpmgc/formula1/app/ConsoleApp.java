@@ -36,6 +36,7 @@ public class ConsoleApp {
         FileGameConfigurator conf = new FileGameConfigurator(f);
         GameSimulation sim = (GameSimulation) conf.configure(1);
         try {
+            sim.warmUp(Runtime.getRuntime().availableProcessors());
             sim.start();
         } catch (InterruptedException e) {
             e.printStackTrace();